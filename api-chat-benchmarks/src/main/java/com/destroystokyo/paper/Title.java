@@ -0,0 +1,63 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package com.destroystokyo.paper;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+
+/**
+ * Stand-in for Paper's title class, with the constructor used by the Bukkit title support.
+ * Paper itself is not a dependency of the benchmarks.
+ *
+ */
+public final class Title {
+
+    private final BaseComponent[] title;
+    private final BaseComponent[] subtitle;
+    private final int fadeIn;
+    private final int stay;
+    private final int fadeOut;
+
+    public Title(BaseComponent[] title, BaseComponent[] subtitle, int fadeIn, int stay, int fadeOut) {
+        this.title = title;
+        this.subtitle = subtitle;
+        this.fadeIn = fadeIn;
+        this.stay = stay;
+        this.fadeOut = fadeOut;
+    }
+
+    public BaseComponent[] getTitle() {
+        return title;
+    }
+
+    public BaseComponent[] getSubtitle() {
+        return subtitle;
+    }
+
+    public int getFadeIn() {
+        return fadeIn;
+    }
+
+    public int getStay() {
+        return stay;
+    }
+
+    public int getFadeOut() {
+        return fadeOut;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env.bukkit;
+
+import com.destroystokyo.paper.Title;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and sending a Paper title through {@link TitleSupport.TitleFactory} and
+ * {@link TitleSupport.TitleSender}, compared to the former approach of calling the generic
+ * {@code MethodHandle.invoke} on the constructor and method handles. <br>
+ * <br>
+ * The benchmark uses a stand-in for Paper's title class. The Bukkit API on the classpath
+ * lacks {@code Player#sendTitle(Title)}, so a static method with the same shape receives
+ * the title. The player is a proxy which is never called.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TitleSupportBenchmark {
+
+    // Static final, as in PaperTitleSupport, so the JIT may treat them as constants
+    private static final MethodHandle TITLE_CONSTRUCTOR;
+    private static final MethodHandle SEND_TITLE;
+    private static final TitleSupport.TitleFactory TITLE_FACTORY;
+    private static final TitleSupport.TitleSender TITLE_SENDER;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            TITLE_CONSTRUCTOR = lookup.findConstructor(Title.class, MethodType.methodType(
+                    void.class, BaseComponent[].class, BaseComponent[].class,
+                    int.class, int.class, int.class));
+            SEND_TITLE = lookup.findStatic(TitleSupportBenchmark.class, "sendTitle",
+                    MethodType.methodType(void.class, Player.class, Title.class));
+
+            TITLE_FACTORY = TitleSupport.TitleFactory.create(lookup, TITLE_CONSTRUCTOR);
+            TITLE_SENDER = TitleSupport.TitleSender.create(lookup, SEND_TITLE);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private static Title lastTitle;
+
+    private static void sendTitle(Player player, Title title) {
+        lastTitle = title;
+    }
+
+    private final Player player = (Player) Proxy.newProxyInstance(
+            Player.class.getClassLoader(), new Class<?>[] {Player.class}, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.toString());
+            });
+    private final BaseComponent[] title = TextComponent.fromLegacyText("Title");
+    private final BaseComponent[] subtitle = TextComponent.fromLegacyText("Subtitle");
+
+    @Benchmark
+    public Object invoke() throws Throwable {
+        Object paperTitle = TITLE_CONSTRUCTOR.invoke(title, subtitle, 10, 70, 20);
+        SEND_TITLE.invoke(player, paperTitle);
+        return lastTitle;
+    }
+
+    @Benchmark
+    public Object titleSupport() {
+        Object paperTitle = TITLE_FACTORY.create(title, subtitle, 10, 70, 20);
+        TITLE_SENDER.send(player, paperTitle);
+        return lastTitle;
+    }
+}
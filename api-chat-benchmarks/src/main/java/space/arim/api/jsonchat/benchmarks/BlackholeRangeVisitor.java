@@ -0,0 +1,64 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import space.arim.api.jsonchat.ClickEventInfo;
+import space.arim.api.jsonchat.RangeParsingVisitor;
+
+/**
+ * Range parsing visitor which consumes everything into a blackhole
+ *
+ */
+final class BlackholeRangeVisitor implements RangeParsingVisitor {
+
+    private final Blackhole blackhole;
+
+    BlackholeRangeVisitor(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    private void consume(CharSequence source, int start, int end) {
+        blackhole.consume(source);
+        blackhole.consume(start);
+        blackhole.consume(end);
+    }
+
+    @Override
+    public void visitHoverEvent(CharSequence source, int start, int end) {
+        consume(source, start, end);
+    }
+
+    @Override
+    public void visitClickEvent(ClickEventInfo.ClickType clickType, CharSequence source, int start, int end) {
+        blackhole.consume(clickType);
+        consume(source, start, end);
+    }
+
+    @Override
+    public void visitInsertion(CharSequence source, int start, int end) {
+        consume(source, start, end);
+    }
+
+    @Override
+    public void visitPlainText(CharSequence source, int start, int end) {
+        consume(source, start, end);
+    }
+}
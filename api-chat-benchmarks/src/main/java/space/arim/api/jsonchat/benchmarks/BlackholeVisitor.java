@@ -0,0 +1,57 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import space.arim.api.jsonchat.ClickEventInfo;
+import space.arim.api.jsonchat.ParsingVisitor;
+
+/**
+ * Parsing visitor which consumes everything into a blackhole
+ *
+ */
+final class BlackholeVisitor implements ParsingVisitor {
+
+    private final Blackhole blackhole;
+
+    BlackholeVisitor(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void visitHoverEvent(String hoverValue) {
+        blackhole.consume(hoverValue);
+    }
+
+    @Override
+    public void visitClickEvent(ClickEventInfo clickEventInfo) {
+        blackhole.consume(clickEventInfo);
+    }
+
+    @Override
+    public void visitInsertion(String value) {
+        blackhole.consume(value);
+    }
+
+    @Override
+    public void visitPlainText(String text) {
+        blackhole.consume(text);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.arim.api.jsonchat.adventure.ChatMessageComponentSerializer;
+import space.arim.api.jsonchat.adventure.JsonSkFormattingSerializer;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole pipeline, in both directions
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatMessageComponentSerializerBenchmark {
+
+    @Param
+    public MessageCorpus corpus;
+
+    private final ChatMessageComponentSerializer serializer = new ChatMessageComponentSerializer(
+            new JsonSkFormattingSerializer(), Adventure5Compat.DEFAULT);
+    private Component component;
+
+    @Setup
+    public void setup() {
+        component = serializer.deserialize(corpus.message());
+    }
+
+    @Benchmark
+    public Component deserialize() {
+        return serializer.deserialize(corpus.message());
+    }
+
+    @Benchmark
+    public String serialize() {
+        return serializer.serialize(component);
+    }
+}
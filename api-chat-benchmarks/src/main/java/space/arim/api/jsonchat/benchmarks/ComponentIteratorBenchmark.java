@@ -0,0 +1,113 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.arim.api.jsonchat.adventure.internal.ComponentIterator;
+import space.arim.api.jsonchat.adventure.internal.StyledComponentIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures traversal of deeply nested and very wide component trees
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComponentIteratorBenchmark {
+
+    @Param
+    public TreeShape shape;
+
+    private Component component;
+
+    @Setup
+    public void setup() {
+        component = shape.build();
+    }
+
+    @Benchmark
+    public void iterateStyled(Blackhole blackhole) {
+        StyledComponentIterator iterator = new StyledComponentIterator(component);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void iterateMaterialized(Blackhole blackhole) {
+        ComponentIterator iterator = new ComponentIterator(component);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    public enum TreeShape {
+        /**
+         * A chain of 100 components, each the only child of the previous
+         */
+        DEPTH_100 {
+            @Override
+            Component build() {
+                Component component = Component.text("leaf");
+                for (int n = 0; n < 99; n++) {
+                    component = Component.text().content("level " + n).append(component).build();
+                }
+                return component;
+            }
+        },
+        /**
+         * A root with 1000 children, every other one colored
+         */
+        WIDTH_1000 {
+            @Override
+            Component build() {
+                List<Component> children = new ArrayList<>(1000);
+                for (int n = 0; n < 1000; n++) {
+                    TextComponent child = Component.text("child " + n);
+                    children.add((n % 2 == 0) ? child : child.color(NamedTextColor.RED));
+                }
+                return Component.text("root", NamedTextColor.GRAY).children(children);
+            }
+        };
+
+        abstract Component build();
+    }
+}
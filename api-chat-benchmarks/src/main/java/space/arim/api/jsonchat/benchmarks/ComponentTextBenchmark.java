@@ -0,0 +1,95 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+import space.arim.api.jsonchat.adventure.util.ComponentText;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures text replacement over a large component. Run through {@link BenchmarkRunner}
+ * so that the GC profiler reports {@code gc.alloc.rate.norm}: the no-op replacement
+ * should allocate nothing beyond the replacement function itself.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComponentTextBenchmark {
+
+    @Param({"100", "1000"})
+    public int childCount;
+
+    private ComponentText componentText;
+
+    @Setup
+    public void setup() {
+        List<Component> children = new ArrayList<>(childCount);
+        for (int n = 0; n < childCount; n++) {
+            TextComponent.Builder child = Component.text().content("Line " + n + " of the message");
+            if (n % 10 == 0) {
+                child.hoverEvent(HoverEvent.showText(Component.text("Hover text of line " + n)))
+                        .clickEvent(ClickEvent.runCommand("/line " + n))
+                        .insertion("insertion " + n);
+            }
+            children.add(child.build());
+        }
+        children.set(childCount / 2, Component.text("Banned by %actor%"));
+        componentText = ComponentText.create(Component.text().append(children).build(), Adventure5Compat.DEFAULT);
+    }
+
+    @Benchmark
+    public ComponentText noOpReplacement() {
+        return componentText.replaceText("%absent%", "replacement");
+    }
+
+    @Benchmark
+    public ComponentText singleReplacement() {
+        return componentText.replaceText("%actor%", "A248");
+    }
+
+    @Benchmark
+    public ComponentText singleReplacementParallel() {
+        return componentText.replaceText(
+                (str) -> str.replace("%actor%", "A248"), ForkJoinPool.commonPool(), 256);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.arim.api.jsonchat.ChatMessagePart;
+import space.arim.api.jsonchat.ChatMessageReconstitutor;
+import space.arim.api.jsonchat.ClickEventInfo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures escaping double pipes in long hover texts and URLs, compared to the former
+ * approach of appending one character at a time
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscapingBenchmark {
+
+    @Param({"1024", "10240"})
+    public int length;
+
+    /**
+     * Roughly one in how many characters is a pipe, or 0 for no pipes
+     */
+    @Param({"0", "80"})
+    public int pipeInterval;
+
+    private final ChatMessageReconstitutor reconstitutor = new ChatMessageReconstitutor();
+    private final StringBuilder baselineBuilder = new StringBuilder();
+    private ChatMessagePart messagePart;
+    private String hoverText;
+    private String url;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(length + pipeInterval);
+        hoverText = generateText(random);
+        url = generateText(random);
+        messagePart = new ChatMessagePart.Builder()
+                .associatedHoverEvent(hoverText)
+                .associatedClickEvent(new ClickEventInfo(ClickEventInfo.ClickType.OPEN_URL, url))
+                .build("Click here");
+    }
+
+    private String generateText(SplittableRandom random) {
+        String alphabet = "abcdefghijklmnopqrstuvwxyz &<#>/";
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            if (pipeInterval != 0 && random.nextInt(pipeInterval) == 0) {
+                // Single, double, or triple pipes
+                builder.append("|||", 0, random.nextInt(1, 4));
+            } else {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String reconstitute() {
+        reconstitutor.reset();
+        reconstitutor.writeMessagePart(messagePart);
+        return reconstitutor.reconstitute();
+    }
+
+    @Benchmark
+    public String perCharacterBaseline() {
+        StringBuilder builder = baselineBuilder;
+        builder.setLength(0);
+        builder.append("Click here");
+        builder.append("||ttp:");
+        appendEscapingPerCharacter(hoverText, builder);
+        builder.append("||url:");
+        appendEscapingPerCharacter(url, builder);
+        return builder.toString();
+    }
+
+    private static void appendEscapingPerCharacter(CharSequence text, StringBuilder builder) {
+        boolean foundOnePipe = false;
+        for (int n = 0; n < text.length(); n++) {
+            char character = text.charAt(n);
+            if (character == '|') {
+                if (foundOnePipe) {
+                    builder.append("|||");
+                    foundOnePipe = false;
+                    continue;
+                } else {
+                    foundOnePipe = true;
+                }
+            } else {
+                foundOnePipe = false;
+            }
+            builder.append(character);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.arim.api.jsonchat.ChatMessageParser;
+import space.arim.api.jsonchat.adventure.JsonSkFormattingSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSkFormattingSerializerBenchmark {
+
+    @Param
+    public MessageCorpus corpus;
+
+    private final JsonSkFormattingSerializer formattingSerializer = new JsonSkFormattingSerializer();
+    private final RegexFormattingReader regexFormattingReader = new RegexFormattingReader();
+    private List<String> formattedTexts;
+    private List<List<Component>> readComponents;
+
+    @Setup
+    public void setup() {
+        RecordingVisitor recorder = new RecordingVisitor();
+        new ChatMessageParser(recorder, corpus.message()).parse();
+        formattedTexts = recorder.formattedTexts();
+        readComponents = new ArrayList<>(formattedTexts.size());
+        for (String formattedText : formattedTexts) {
+            List<Component> components = new ArrayList<>();
+            for (ComponentLike componentLike : formattingSerializer.readFormatting(formattedText)) {
+                components.add(componentLike.asComponent());
+            }
+            readComponents.add(components);
+        }
+    }
+
+    @Benchmark
+    public void readFormatting(Blackhole blackhole) {
+        for (String formattedText : formattedTexts) {
+            blackhole.consume(formattingSerializer.readFormatting(formattedText));
+        }
+    }
+
+    @Benchmark
+    public void readFormattingRegexBaseline(Blackhole blackhole) {
+        for (String formattedText : formattedTexts) {
+            blackhole.consume(regexFormattingReader.readFormatting(formattedText));
+        }
+    }
+
+    @Benchmark
+    public void writeFormatting(Blackhole blackhole) {
+        for (List<Component> components : readComponents) {
+            blackhole.consume(formattingSerializer.writeFormatting(components));
+        }
+    }
+}
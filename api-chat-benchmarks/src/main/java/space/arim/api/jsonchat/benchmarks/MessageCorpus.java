@@ -0,0 +1,115 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+/**
+ * Realistic JSON.sk inputs used across benchmarks
+ *
+ */
+public enum MessageCorpus {
+
+    /**
+     * A typical chat line with a tooltip and a command
+     */
+    SHORT("&7[&aServer&7] &fWelcome back, &eA248&f!||ttp:&7Click to view your profile||cmd:/profile A248"),
+    /**
+     * A long MOTD-style announcement, heavy on formatting codes and hex colors
+     */
+    MOTD(buildMotd()),
+    /**
+     * Content which makes heavy use of escaped double pipes
+     */
+    ESCAPED(buildEscaped()),
+    /**
+     * A long message whose segments each carry a large, heavily formatted tooltip
+     */
+    TOOLTIPS(buildTooltips());
+
+    private final String message;
+
+    MessageCorpus(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Gets the JSON.sk message
+     *
+     * @return the message
+     */
+    public String message() {
+        return message;
+    }
+
+    private static String buildMotd() {
+        StringBuilder builder = new StringBuilder();
+        String[] hexColors = {"<#55FFAA>", "<#F3A>", "<#1E90FF>", "<#FC0>", "<#8A2BE2>", "<#0F0>"};
+        for (int n = 0; n < 12; n++) {
+            if (n != 0) {
+                builder.append("||");
+            }
+            builder.append("&6&l» ").append(hexColors[n % hexColors.length]).append("Survival &8| ")
+                    .append(hexColors[(n + 1) % hexColors.length]).append("Season ").append(n)
+                    .append(" &7- &o&njoin now&r &a&lfree &b&mkits &c&kxx&r&e daily rewards");
+            switch (n % 3) {
+            case 0:
+                builder.append("||ttp:&e&lClick here!\n&7Opens the &bstore <#FFAA00>page\n&8(season ")
+                        .append(n).append(')').append("||url:https://example.com/store/").append(n);
+                break;
+            case 1:
+                builder.append("||ttp:<#ABCDEF>Season ").append(n).append(" details||sgt:/season info ").append(n);
+                break;
+            default:
+                builder.append("||ins:season-").append(n);
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String buildEscaped() {
+        StringBuilder builder = new StringBuilder();
+        for (int n = 0; n < 8; n++) {
+            if (n != 0) {
+                builder.append("||");
+            }
+            builder.append("&cUsage&7: /punish <player|||||||||uuid> [reason] |||| &8flags: -s |||| -p |||| -t")
+                    .append("||ttp:&7Separate alternatives using |||| as in a |||||||| b")
+                    .append("||sgt:/punish |||| ").append(n);
+        }
+        return builder.toString();
+    }
+
+    private static String buildTooltips() {
+        StringBuilder builder = new StringBuilder();
+        for (int n = 0; n < 16; n++) {
+            if (n != 0) {
+                builder.append("||");
+            }
+            builder.append("&a&lKit ").append(n).append(" &7- &fhover &efor &6the &ccontents");
+            builder.append("||ttp:&6&lKit ").append(n).append("\n");
+            for (int line = 0; line < 12; line++) {
+                builder.append("&7• &b").append(line + 1).append("x &fItem ").append(line)
+                        .append(" &8(&oslot ").append(line).append("&8)\n");
+            }
+            builder.append("&eClick to claim||cmd:/kit claim ").append(n);
+        }
+        return builder.toString();
+    }
+}
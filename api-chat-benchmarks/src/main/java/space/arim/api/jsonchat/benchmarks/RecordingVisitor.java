@@ -0,0 +1,83 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import space.arim.api.jsonchat.ClickEventInfo;
+import space.arim.api.jsonchat.ParsingVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parsing visitor which records events so they may be replayed later,
+ * isolating the cost of a visitor from the cost of the parser
+ *
+ */
+final class RecordingVisitor implements ParsingVisitor {
+
+    private final List<Consumer<ParsingVisitor>> events = new ArrayList<>();
+    private final List<String> plainTexts = new ArrayList<>();
+    private final List<String> hoverTexts = new ArrayList<>();
+
+    @Override
+    public void visitHoverEvent(String hoverValue) {
+        hoverTexts.add(hoverValue);
+        events.add((visitor) -> visitor.visitHoverEvent(hoverValue));
+    }
+
+    @Override
+    public void visitClickEvent(ClickEventInfo clickEventInfo) {
+        events.add((visitor) -> visitor.visitClickEvent(clickEventInfo));
+    }
+
+    @Override
+    public void visitInsertion(String value) {
+        events.add((visitor) -> visitor.visitInsertion(value));
+    }
+
+    @Override
+    public void visitPlainText(String text) {
+        plainTexts.add(text);
+        events.add((visitor) -> visitor.visitPlainText(text));
+    }
+
+    /**
+     * Replays all recorded events to another visitor
+     *
+     * @param visitor the visitor
+     */
+    void replay(ParsingVisitor visitor) {
+        for (Consumer<ParsingVisitor> event : events) {
+            event.accept(visitor);
+        }
+    }
+
+    /**
+     * Gets all of the text which may contain formatting codes, plain text and hover text alike
+     *
+     * @return the formatted text
+     */
+    List<String> formattedTexts() {
+        List<String> formattedTexts = new ArrayList<>(plainTexts);
+        formattedTexts.addAll(hoverTexts);
+        return formattedTexts;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import space.arim.api.jsonchat.adventure.internal.ColorCodes;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The former regex based implementation of {@code JsonSkFormattingSerializer#readFormatting},
+ * retained as a baseline for comparison
+ *
+ */
+final class RegexFormattingReader {
+
+    private static final Pattern COLOR_PATTERN = Pattern.compile(
+            // Legacy color codes
+            "(&[0-9A-Fa-fK-Rk-r])|"
+            // Hex codes such as <#00AAFF>
+            + "(<#[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f]>)|"
+            // and the shorter <#4BC>
+            + "(<#[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f]>)");
+
+    List<? extends ComponentLike> readFormatting(String text) {
+        ReadingState currentState = new ReadingState();
+        int beginIndex = 0;
+
+        Matcher matcher = COLOR_PATTERN.matcher(text);
+        while (matcher.find()) {
+
+            int currentIndex = matcher.start();
+            String segment = text.substring(beginIndex, currentIndex);
+            if (!segment.isEmpty()) {
+                currentState.addComponent(segment);
+            }
+            currentState.updateFormatting(matcher.group());
+            // prepare for the next segment by updating the starting index
+            beginIndex = matcher.end();
+        }
+        String remaining = text.substring(beginIndex);
+        if (!remaining.isEmpty()) {
+            currentState.addComponent(remaining);
+        }
+        return currentState.components;
+    }
+
+    private static class ReadingState {
+
+        private final List<TextComponent.Builder> components = new ArrayList<>();
+        private TextColor currentColor = NamedTextColor.WHITE;
+        private final Set<TextDecoration> decorations = EnumSet.noneOf(TextDecoration.class);
+
+        private void addComponent(String text) {
+            TextComponent.Builder componentBuilder = Component.text().content(text).color(currentColor);
+            componentBuilder.decorations(decorations, true);
+            components.add(componentBuilder);
+        }
+
+        private void updateFormattingFromCode(String formatCode) {
+            char codeChar = formatCode.charAt(1);
+            switch (codeChar) {
+            case 'K':
+            case 'k':
+                decorations.add(TextDecoration.OBFUSCATED);
+                break;
+            case 'L':
+            case 'l':
+                decorations.add(TextDecoration.BOLD);
+                break;
+            case 'M':
+            case 'm':
+                decorations.add(TextDecoration.STRIKETHROUGH);
+                break;
+            case 'N':
+            case 'n':
+                decorations.add(TextDecoration.UNDERLINED);
+                break;
+            case 'O':
+            case 'o':
+                decorations.add(TextDecoration.ITALIC);
+                break;
+            case 'R':
+            case 'r':
+                currentColor = NamedTextColor.WHITE;
+                break;
+            default:
+                int color = ColorCodes.obtainColorFromCode(codeChar);
+                currentColor = TextColor.color(color);
+                break;
+            }
+        }
+
+        private void setHexColor(String hex) {
+            int color = Integer.parseInt(hex, 16);
+            currentColor = TextColor.color(color);
+        }
+
+        void updateFormatting(String formatGroup) {
+            TextColor oldColor = currentColor;
+            switch (formatGroup.length()) {
+            case 2:
+                updateFormattingFromCode(formatGroup);
+                break;
+            case 6:
+                // Shortened hex colour code
+                char[] shortHex = formatGroup.substring(2, 5).toCharArray();
+                char[] fullHex = new char[] {shortHex[0], shortHex[0], shortHex[1], shortHex[1], shortHex[2], shortHex[2]};
+                setHexColor(String.valueOf(fullHex));
+                break;
+            case 9:
+                // Full hex colour code
+                setHexColor(formatGroup.substring(2, 8));
+                break;
+            default:
+                throw new IllegalStateException("Matched formatting " + formatGroup + " has no known way to be handled");
+            }
+            if (!currentColor.equals(oldColor)) {
+                decorations.clear();
+            }
+        }
+    }
+}
@@ -19,11 +19,7 @@
 
 package space.arim.api.jsonchat;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 import static space.arim.api.jsonchat.ClickEventInfo.ClickType.OPEN_URL;
 import static space.arim.api.jsonchat.ClickEventInfo.ClickType.RUN_COMMAND;
@@ -37,12 +33,16 @@ import static space.arim.api.jsonchat.ClickEventInfo.ClickType.SUGGEST_COMMAND;
 public final class ChatMessageParser {
 
     private final ParsingVisitor visitor;
+    /** The same visitor if it accepts ranges, otherwise null */
+    private final RangeParsingVisitor rangeVisitor;
     private final String content;
 
     /** Best effort re-use detection */
     private boolean used;
 
-    private static final Pattern DOUBLE_PIPES_PATTERN = Pattern.compile("||", Pattern.LITERAL);
+    /** Lazily created. Holds the beginning of the current segment if it contains escapes */
+    private StringBuilder unescapedSegment;
+    private boolean currentSegmentEscaped;
 
     /**
      * Creates an instance
@@ -52,6 +52,7 @@ public final class ChatMessageParser {
      */
     public ChatMessageParser(ParsingVisitor visitor, String content) {
         this.visitor = Objects.requireNonNull(visitor, "visitor");
+        rangeVisitor = (visitor instanceof RangeParsingVisitor) ? (RangeParsingVisitor) visitor : null;
         this.content = Objects.requireNonNull(content, "content");
     }
 
@@ -77,115 +78,148 @@ public final class ChatMessageParser {
      *
      */
 
-    /**
-     * Parse all message segments, which are separated by ||.
-     * Account for escaped pipes (e.g. ||||)
+    /*
+     * Segments are separated by ||. Escaped pipes (e.g. ||||) are resolved while scanning.
      *
-     * @return the parsed segments
+     * Within a run of consecutive pipes, each |||| becomes a literal ||. Any remaining ||
+     * separates segments, after which a remaining single pipe is literal. This is equivalent
+     * to splitting on || from left to right, then joining adjacent splits around escapes.
+     *
+     * Segments are tracked as offsets into the content. Only segments which contain escaped
+     * pipes are copied into the unescaped builder.
      */
-    private List<String> getSegments() {
-        String[] split = DOUBLE_PIPES_PATTERN.split(content);
-        if (!content.contains("||||")) {
-            return Arrays.asList(split);
+
+    private void doParse() {
+        if (content.isEmpty()) {
+            visitor.visitPlainText(content);
+            return;
         }
-        List<String> segments = new ArrayList<>(split.length - 1);
-
-        /*
-         * Convert all |||| to ||
-         */
-        mainLoop:
-        for (int n = 0; n < split.length; n++) {
-            int emptyCount = 0;
-            while (split[n].isEmpty()) {
-                emptyCount++;
-                n++;
-                if (n == split.length) {
-                    addDoublePipesToLastSegment(segments, emptyCount);
-                    break mainLoop;
-                }
+        String content = this.content;
+        int length = content.length();
+        int segmentStart = 0;
+        int pipeStart;
+        int searchFrom = 0;
+        while ((pipeStart = content.indexOf('|', searchFrom)) != -1) {
+            int pipeEnd = pipeStart + 1;
+            while (pipeEnd < length && content.charAt(pipeEnd) == '|') {
+                pipeEnd++;
+            }
+            searchFrom = pipeEnd;
+            int runLength = pipeEnd - pipeStart;
+            if (runLength == 1) {
+                // Literal single pipe
+                continue;
             }
-            if (emptyCount > 0) {
-                addDoublePipesToLastSegment(segments, emptyCount);
+            int escapedPipes = runLength >> 2;
+            int remainder = runLength & 3;
+            if (escapedPipes != 0) {
+                StringBuilder unescaped = unescapedSegment();
+                unescaped.append(content, segmentStart, pipeStart);
+                for (int n = 0; n < escapedPipes; n++) {
+                    unescaped.append("||");
+                }
+                segmentStart = pipeStart + (escapedPipes << 2);
             }
-            String preSegment = split[n];
-            if (emptyCount % 2 == 0) {
-                // Empty count is even - new segment
-                segments.add(preSegment);
-            } else {
-                // Add to last segment
-                int lastIndex = segments.size() - 1;
-                segments.set(lastIndex, segments.get(lastIndex) + preSegment);
+            if (remainder >= 2) {
+                int separatorStart = pipeEnd - remainder;
+                finishSegment(segmentStart, separatorStart);
+                segmentStart = separatorStart + 2;
             }
+            // Any remaining single pipe is literal and begins at segmentStart
         }
-        return segments;
+        finishSegment(segmentStart, length);
     }
 
-    private static void addDoublePipesToLastSegment(List<String> segments, int emptyCount) {
-        /*
-         * |||| - 1 empty, 1 pipes
-         * |||| || - 2 empty, 1 pipes
-         * |||| |||| - 3 empty, 2 pipes
-         * |||| |||| || - 4 empty, 2 pipes
-         * |||| |||| |||| - 5 empty, 3 pipes
-         *
-         * e - p = floor (e/2)
-         * p = e - floor (e/2)
-         */
-        int doublePipeCount = emptyCount - (emptyCount / 2);
-        String pipes = "||".repeat(doublePipeCount);
-
-        int lastIndex = segments.size() - 1;
-        if (lastIndex >= 0) {
-            segments.set(lastIndex, segments.get(lastIndex) + pipes);
+    private StringBuilder unescapedSegment() {
+        StringBuilder unescapedSegment = this.unescapedSegment;
+        if (unescapedSegment == null) {
+            unescapedSegment = this.unescapedSegment = new StringBuilder();
+        }
+        currentSegmentEscaped = true;
+        return unescapedSegment;
+    }
+
+    private void finishSegment(int start, int end) {
+        if (currentSegmentEscaped) {
+            // Finish unescaping
+            currentSegmentEscaped = false;
+            StringBuilder unescapedSegment = this.unescapedSegment;
+            unescapedSegment.append(content, start, end);
+            // Range visitors are given the builder itself, which is valid until it is reset
+            visitSegment(unescapedSegment, 0, unescapedSegment.length());
+            unescapedSegment.setLength(0);
         } else {
-            segments.add(pipes);
+            visitSegment(content, start, end);
         }
     }
 
-    private void doParse() {
-        if (content.isEmpty()) {
-            visitor.visitPlainText(content);
+    private void visitSegment(CharSequence source, int start, int end) {
+        if (start == end) {
             return;
         }
-        List<String> segments = getSegments();
-        for (String segmentValue : segments) {
-            if (segmentValue.isEmpty()) {
-                continue;
-            }
-            String unprefixedValue;
-            JsonTag tag;
-            if (segmentValue.length() > 4) {
-                unprefixedValue = segmentValue.substring(4);
-                tag = JsonTag.getTag(segmentValue);
-            } else {
-                unprefixedValue = segmentValue;
-                tag = JsonTag.NONE;
-            }
-            switch (tag) {
-            case NIL:
-                visitor.visitPlainText(unprefixedValue);
-                break;
-            case NONE:
-                visitor.visitPlainText(segmentValue);
-                break;
-            case TTP:
-                visitor.visitHoverEvent(unprefixedValue);
-                break;
-            case CMD:
-                visitor.visitClickEvent(new ClickEventInfo(RUN_COMMAND, unprefixedValue));
-                break;
-            case SGT:
-                visitor.visitClickEvent(new ClickEventInfo(SUGGEST_COMMAND, unprefixedValue));
-                break;
-            case URL:
-                visitor.visitClickEvent(new ClickEventInfo(OPEN_URL, unprefixedValue));
-                break;
-            case INS:
-                visitor.visitInsertion(unprefixedValue);
-                break;
-            default:
-                throw new IllegalStateException("Unknown JsonTag " + tag);
-            }
+        JsonTag tag = JsonTag.getTag(source, start, end);
+        RangeParsingVisitor rangeVisitor = this.rangeVisitor;
+        if (rangeVisitor != null) {
+            visitRangeSegment(rangeVisitor, tag, source, start, end);
+            return;
+        }
+        if (tag == JsonTag.NONE) {
+            visitor.visitPlainText(source.subSequence(start, end).toString());
+            return;
+        }
+        String unprefixedValue = source.subSequence(start + 4, end).toString();
+        switch (tag) {
+        case NIL:
+            visitor.visitPlainText(unprefixedValue);
+            break;
+        case TTP:
+            visitor.visitHoverEvent(unprefixedValue);
+            break;
+        case CMD:
+            visitor.visitClickEvent(new ClickEventInfo(RUN_COMMAND, unprefixedValue));
+            break;
+        case SGT:
+            visitor.visitClickEvent(new ClickEventInfo(SUGGEST_COMMAND, unprefixedValue));
+            break;
+        case URL:
+            visitor.visitClickEvent(new ClickEventInfo(OPEN_URL, unprefixedValue));
+            break;
+        case INS:
+            visitor.visitInsertion(unprefixedValue);
+            break;
+        default:
+            throw new IllegalStateException("Unknown JsonTag " + tag);
+        }
+    }
+
+    private static void visitRangeSegment(RangeParsingVisitor visitor, JsonTag tag,
+                                          CharSequence source, int start, int end) {
+        if (tag == JsonTag.NONE) {
+            visitor.visitPlainText(source, start, end);
+            return;
+        }
+        int valueStart = start + 4;
+        switch (tag) {
+        case NIL:
+            visitor.visitPlainText(source, valueStart, end);
+            break;
+        case TTP:
+            visitor.visitHoverEvent(source, valueStart, end);
+            break;
+        case CMD:
+            visitor.visitClickEvent(RUN_COMMAND, source, valueStart, end);
+            break;
+        case SGT:
+            visitor.visitClickEvent(SUGGEST_COMMAND, source, valueStart, end);
+            break;
+        case URL:
+            visitor.visitClickEvent(OPEN_URL, source, valueStart, end);
+            break;
+        case INS:
+            visitor.visitInsertion(source, valueStart, end);
+            break;
+        default:
+            throw new IllegalStateException("Unknown JsonTag " + tag);
         }
     }
 }
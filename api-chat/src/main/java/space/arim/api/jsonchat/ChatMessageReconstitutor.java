@@ -19,100 +19,315 @@
 
 package space.arim.api.jsonchat;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
+import java.util.Objects;
 
 /**
  * Chat message writer which performs the inverse operation of
  * {@link ChatMessageParser}. <br>
  * <br>
- * Mutable and non-reusable. Not thread safe.
+ * By default, the message is collected and retrieved using {@link #reconstitute()}. Alternatively,
+ * the message may be streamed to an {@code Appendable} supplied at construction. <br>
+ * <br>
+ * Message parts may be written whole, using {@link #writeMessagePart(ChatMessagePart)}, or piece
+ * by piece. In the latter case, the plain text and hover text may be written directly to the
+ * output through the {@code Appendable} returned by {@link #beginPlainText()} and
+ * {@link #beginHoverEvent()}, which escapes the text as it is written. <br>
+ * <br>
+ * Mutable and not thread safe. May be re-used by calling {@link #reset()} between messages.
  *
  */
 public final class ChatMessageReconstitutor {
 
-    private final StringBuilder segmentBuilder = new StringBuilder();
+    private final Appendable output;
+    /** The output if it is owned by this reconstitutor, otherwise null */
+    private final StringBuilder ownedBuilder;
+    /** Whether anything has been written for the current message */
+    private boolean written;
+    /** The length of a run of pipes which has been read but not yet written */
+    private int pendingPipes;
+    /** Created when first needed */
+    private SegmentWriter segmentWriter;
+
+    /**
+     * Creates, collecting the message so that it may be retrieved with {@link #reconstitute()}
+     */
+    public ChatMessageReconstitutor() {
+        output = ownedBuilder = new StringBuilder();
+    }
 
     /**
-     * Creates
+     * Creates, streaming the message to the given output. {@link #reconstitute()} is not
+     * supported by the created reconstitutor. <br>
+     * <br>
+     * Any {@code IOException} thrown by the output is rethrown as an {@link UncheckedIOException}
+     * from the method which wrote to it.
+     *
+     * @param output the output to which to write the message
      */
-    public ChatMessageReconstitutor() {}
+    public ChatMessageReconstitutor(Appendable output) {
+        this.output = Objects.requireNonNull(output, "output");
+        ownedBuilder = null;
+    }
 
     /**
      * Writes part of the message
      *
      * @param messagePart the message part
+     * @throws UncheckedIOException if writing to the output failed
      */
     public void writeMessagePart(ChatMessagePart messagePart) {
-        if (segmentBuilder.length() != 0) {
-            segmentBuilder.append("||");
+        finishSegment();
+        if (written) {
+            append("||");
         }
         String plainText = messagePart.plainText().toString();
         if (JsonTag.getTag(plainText) != JsonTag.NONE || startsWithDoublePipes(plainText)) {
             // Escape literals
-            segmentBuilder.append("nil:");
+            append("nil:");
         }
         appendEscapingDoublePipes(plainText);
 
-        messagePart.associatedHoverEvent().ifPresent((hoverEvent) -> {
-            segmentBuilder.append("||ttp:");
-            appendEscapingDoublePipes(hoverEvent);
-        });
-
+        messagePart.associatedHoverEvent().ifPresent(this::writeHoverEvent);
         messagePart.associatedClickEvent().ifPresent((clickEvent) -> {
-            segmentBuilder.append("||");
-            switch (clickEvent.clickType()) {
-            case OPEN_URL:
-                segmentBuilder.append("url");
-                break;
-            case RUN_COMMAND:
-                segmentBuilder.append("cmd");
-                break;
-            case SUGGEST_COMMAND:
-                segmentBuilder.append("sgt");
-                break;
-            default:
-                throw new UnsupportedOperationException("Not implemented for " + clickEvent.clickType());
-            }
-            segmentBuilder.append(':');
-            appendEscapingDoublePipes(clickEvent.value());
+            writeClickEvent(clickEvent.clickType(), clickEvent.value());
         });
+        messagePart.associatedInsertion().ifPresent(this::writeInsertion);
+    }
 
-        messagePart.associatedInsertion().ifPresent((insertion) -> {
-            segmentBuilder.append("||ins:");
-            appendEscapingDoublePipes(insertion);
-        });
+    /**
+     * Begins a new part of the message, whose plain text is to be written to the returned
+     * {@code Appendable}. The plain text is escaped as it is written. It may be followed
+     * by the events of the same message part. <br>
+     * <br>
+     * The returned {@code Appendable} may be used until any other method of this reconstitutor
+     * is called. It throws {@link UncheckedIOException} if writing to the output failed.
+     *
+     * @return the appendable to which to write the plain text
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public Appendable beginPlainText() {
+        finishSegment();
+        if (written) {
+            append("||");
+        }
+        return openSegmentWriter(true);
+    }
+
+    /**
+     * Begins the hover event of the current message part, whose text is to be written to
+     * the returned {@code Appendable}. The text is escaped as it is written. <br>
+     * <br>
+     * The returned {@code Appendable} may be used until any other method of this reconstitutor
+     * is called. It throws {@link UncheckedIOException} if writing to the output failed.
+     *
+     * @return the appendable to which to write the hover text
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public Appendable beginHoverEvent() {
+        finishSegment();
+        append("||ttp:");
+        return openSegmentWriter(false);
+    }
+
+    /**
+     * Writes the hover event of the current message part
+     *
+     * @param hoverText the hover text
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public void writeHoverEvent(CharSequence hoverText) {
+        finishSegment();
+        append("||ttp:");
+        appendEscapingDoublePipes(hoverText);
+    }
+
+    /**
+     * Writes the click event of the current message part
+     *
+     * @param clickType the click type
+     * @param value the click value
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public void writeClickEvent(ClickEventInfo.ClickType clickType, CharSequence value) {
+        finishSegment();
+        append("||");
+        switch (clickType) {
+        case OPEN_URL:
+            append("url");
+            break;
+        case RUN_COMMAND:
+            append("cmd");
+            break;
+        case SUGGEST_COMMAND:
+            append("sgt");
+            break;
+        default:
+            throw new UnsupportedOperationException("Not implemented for " + clickType);
+        }
+        append(":");
+        appendEscapingDoublePipes(value);
+    }
+
+    /**
+     * Writes the insertion of the current message part
+     *
+     * @param insertion the insertion
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public void writeInsertion(CharSequence insertion) {
+        finishSegment();
+        append("||ins:");
+        appendEscapingDoublePipes(insertion);
+    }
+
+    /**
+     * Finishes the text begun with {@link #beginPlainText()} or {@link #beginHoverEvent()},
+     * writing any of it which was held back. This is done automatically by every other method
+     * of this reconstitutor, but must be called explicitly after the last such text when
+     * streaming to a supplied output. Does nothing if there is no such text.
+     *
+     * @throws UncheckedIOException if writing to the output failed
+     */
+    public void finishSegment() {
+        SegmentWriter segmentWriter = this.segmentWriter;
+        if (segmentWriter != null && segmentWriter.open) {
+            segmentWriter.finish();
+        }
+    }
+
+    private SegmentWriter openSegmentWriter(boolean plainText) {
+        SegmentWriter segmentWriter = this.segmentWriter;
+        if (segmentWriter == null) {
+            this.segmentWriter = segmentWriter = new SegmentWriter();
+        }
+        segmentWriter.open(plainText);
+        return segmentWriter;
     }
 
     private static boolean startsWithDoublePipes(CharSequence text) {
         return text.length() >= 2 && text.charAt(0) == '|' && text.charAt(1) == '|';
     }
 
+    /*
+     * Escaping replaces every || with ||||, equivalent to text.toString().replace("||", "||||").
+     * Within a run of n pipes, this yields 2n - (n & 1) pipes. The text between runs of
+     * multiple pipes is copied in bulk. A run of pipes at the end of the text may continue
+     * in text written later, so it is held back as pending until the run ends.
+     */
+
+    private static final String PIPES = "||||||||||||||||";
+
     private void appendEscapingDoublePipes(CharSequence text) {
-        // Replace while appending. Should be equivalent to
-        // var escaped = text.toString().replace("||", "||||");
-        // segmentBuilder.append(escaped);
-        boolean foundOnePipe = false;
-        for (int n = 0; n < text.length(); n++) {
-            char character = text.charAt(n);
-            if (character == '|') {
-                if (foundOnePipe) {
-                    segmentBuilder.append("|||");
-                    foundOnePipe = false;
-                    continue;
-                } else {
-                    foundOnePipe = true;
-                }
-            } else {
-                foundOnePipe = false;
+        escapeDoublePipes(text, 0, text.length());
+        flushPendingPipes();
+    }
+
+    private void escapeDoublePipes(CharSequence text, int start, int end) {
+        int index = start;
+        if (pendingPipes != 0) {
+            while (index < end && text.charAt(index) == '|') {
+                index++;
+            }
+            pendingPipes += index - start;
+            if (index == end) {
+                return;
+            }
+            flushPendingPipes();
+        }
+        int copyFrom = index;
+        int pipeIndex;
+        while ((pipeIndex = indexOfPipe(text, index, end)) != -1) {
+            int pipeEnd = pipeIndex + 1;
+            while (pipeEnd < end && text.charAt(pipeEnd) == '|') {
+                pipeEnd++;
+            }
+            if (pipeEnd == end) {
+                append(text, copyFrom, pipeIndex);
+                pendingPipes = pipeEnd - pipeIndex;
+                return;
+            }
+            int pipeCount = pipeEnd - pipeIndex;
+            if (pipeCount >= 2) {
+                append(text, copyFrom, pipeEnd);
+                appendPipes(pipeCount - (pipeCount & 1));
+                copyFrom = pipeEnd;
             }
-            segmentBuilder.append(character);
+            index = pipeEnd;
         }
+        append(text, copyFrom, end);
+    }
+
+    private void flushPendingPipes() {
+        int pipeCount = pendingPipes;
+        if (pipeCount != 0) {
+            pendingPipes = 0;
+            appendPipes(pipeCount);
+            appendPipes(pipeCount - (pipeCount & 1));
+        }
+    }
+
+    private static int indexOfPipe(CharSequence text, int from, int end) {
+        if (text instanceof String) {
+            int index = ((String) text).indexOf('|', from);
+            return (index < end) ? index : -1;
+        }
+        for (int n = from; n < end; n++) {
+            if (text.charAt(n) == '|') {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    private void appendPipes(int count) {
+        while (count > 0) {
+            int chunk = Math.min(count, PIPES.length());
+            append(PIPES, 0, chunk);
+            count -= chunk;
+        }
+    }
+
+    private void append(CharSequence text, int start, int end) {
+        if (start == end) {
+            return;
+        }
+        try {
+            output.append(text, start, end);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        written = true;
+    }
+
+    private void append(char character) {
+        try {
+            output.append(character);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        written = true;
+    }
+
+    private void append(CharSequence text) {
+        if (text.length() == 0) {
+            return;
+        }
+        try {
+            output.append(text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        written = true;
     }
 
     /**
      * Convenience method to write every message part in the iterator
      *
      * @param messageParts all of the message parts to write
+     * @throws UncheckedIOException if writing to the output failed
      */
     public void writeAllMessageParts(Iterator<ChatMessagePart> messageParts) {
         while (messageParts.hasNext()) {
@@ -124,9 +339,120 @@ public final class ChatMessageReconstitutor {
      * Forms the message as a string
      *
      * @return the created message
-     * @throws IllegalStateException optional, if the reconstitutor detects it is being re-used
+     * @throws IllegalStateException if this reconstitutor streams to a supplied output
      */
     public String reconstitute() {
-        return segmentBuilder.toString();
+        if (ownedBuilder == null) {
+            throw new IllegalStateException("Message was written to the supplied output");
+        }
+        finishSegment();
+        return ownedBuilder.toString();
+    }
+
+    /**
+     * Resets this reconstitutor so that it may be used to write another message. <br>
+     * <br>
+     * If this reconstitutor collects the message, the collected message is cleared while its
+     * buffer is retained. If it streams to a supplied output, the next message is written
+     * after the previous one; the caller is responsible for separating or clearing the output.
+     */
+    public void reset() {
+        if (ownedBuilder != null) {
+            ownedBuilder.setLength(0);
+        }
+        written = false;
+        pendingPipes = 0;
+        if (segmentWriter != null) {
+            segmentWriter.close();
+        }
+    }
+
+    /**
+     * Escapes text as it is written. For plain text, the first characters are held back until
+     * it is known whether the text must be prefixed with "nil:" so as to not be read as a tag.
+     */
+    private final class SegmentWriter implements Appendable {
+
+        /** Enough characters to determine the tag, since tags are only recognized in longer text */
+        private static final int LOOKAHEAD = 5;
+
+        boolean open;
+        private boolean lookingAhead;
+        private final StringBuilder lookahead = new StringBuilder(LOOKAHEAD);
+
+        void open(boolean plainText) {
+            open = true;
+            lookingAhead = plainText;
+        }
+
+        void close() {
+            open = false;
+            lookingAhead = false;
+            lookahead.setLength(0);
+        }
+
+        void finish() {
+            if (lookingAhead) {
+                releaseLookahead();
+            }
+            flushPendingPipes();
+            open = false;
+        }
+
+        private void ensureOpen() {
+            if (!open) {
+                throw new IllegalStateException("The text has already been finished");
+            }
+        }
+
+        private void releaseLookahead() {
+            lookingAhead = false;
+            if (JsonTag.getTag(lookahead) != JsonTag.NONE || startsWithDoublePipes(lookahead)) {
+                // Escape literals
+                ChatMessageReconstitutor.this.append("nil:");
+            }
+            escapeDoublePipes(lookahead, 0, lookahead.length());
+            lookahead.setLength(0);
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            CharSequence text = (csq == null) ? "null" : csq;
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            ensureOpen();
+            CharSequence text = (csq == null) ? "null" : csq;
+            if (lookingAhead) {
+                int taken = Math.min(end - start, LOOKAHEAD - lookahead.length());
+                lookahead.append(text, start, start + taken);
+                start += taken;
+                if (lookahead.length() < LOOKAHEAD) {
+                    return this;
+                }
+                releaseLookahead();
+            }
+            escapeDoublePipes(text, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            ensureOpen();
+            if (lookingAhead) {
+                lookahead.append(c);
+                if (lookahead.length() == LOOKAHEAD) {
+                    releaseLookahead();
+                }
+            } else if (c == '|') {
+                pendingPipes++;
+            } else {
+                flushPendingPipes();
+                ChatMessageReconstitutor.this.append(c);
+            }
+            return this;
+        }
     }
 }
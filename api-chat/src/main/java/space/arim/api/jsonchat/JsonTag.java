@@ -18,8 +18,6 @@
  */
 package space.arim.api.jsonchat;
 
-import java.util.Locale;
-
 enum JsonTag {
 	
 	/**
@@ -51,26 +49,50 @@ enum JsonTag {
 	 */
 	INS;
 	
-	static JsonTag getTag(String segment) {
-		if (segment.length() <= 4) {
+	static JsonTag getTag(CharSequence segment) {
+		return getTag(segment, 0, segment.length());
+	}
+
+	/**
+	 * Determines the tag of a segment, comparing characters in place
+	 *
+	 * @param source the source containing the segment
+	 * @param start the start index of the segment, inclusive
+	 * @param end the end index of the segment, exclusive
+	 * @return the tag, or {@code NONE} if there is none
+	 */
+	static JsonTag getTag(CharSequence source, int start, int end) {
+		if (end - start <= 4 || source.charAt(start + 3) != ':') {
 			return NONE;
 		}
-		switch (segment.substring(0, 4).toLowerCase(Locale.ROOT)) {
-		case "nil:":
-			return NIL;
-		case "ttp:":
-			return TTP;
-		case "cmd:":
-			return CMD;
-		case "sgt:":
-			return SGT;
-		case "url:":
-			return URL;
-		case "ins:":
-			return INS;
+		char first = lowerCaseAscii(source.charAt(start));
+		char second = lowerCaseAscii(source.charAt(start + 1));
+		char third = lowerCaseAscii(source.charAt(start + 2));
+		switch (first) {
+		case 'n':
+			return (second == 'i' && third == 'l') ? NIL : NONE;
+		case 't':
+			return (second == 't' && third == 'p') ? TTP : NONE;
+		case 'c':
+			return (second == 'm' && third == 'd') ? CMD : NONE;
+		case 's':
+			return (second == 'g' && third == 't') ? SGT : NONE;
+		case 'u':
+			return (second == 'r' && third == 'l') ? URL : NONE;
+		case 'i':
+			return (second == 'n' && third == 's') ? INS : NONE;
 		default:
 			return NONE;
 		}
 	}
 
+	/*
+	 * Only valid for comparison against lowercase ASCII letters. Deliberately
+	 * ignores non-ASCII case mappings, as did toLowerCase(Locale.ROOT) on
+	 * the 4 character prefix
+	 */
+	private static char lowerCaseAscii(char character) {
+		return (char) (character | 0x20);
+	}
+
 }
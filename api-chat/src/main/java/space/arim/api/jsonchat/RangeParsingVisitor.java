@@ -0,0 +1,96 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat;
+
+/**
+ * A {@link ParsingVisitor} which is provided with ranges of the source text rather than
+ * strings. This avoids creating a string for every part of a message when the implementation
+ * does not need one. <br>
+ * <br>
+ * {@link ChatMessageParser} detects implementations of this interface and calls the range
+ * accepting methods directly. The string accepting methods of {@code ParsingVisitor} are
+ * implemented by delegating to the range accepting methods. <br>
+ * <br>
+ * The {@code source} passed to each method is only valid for the duration of the method call.
+ * Implementations should not retain it nor assume it to be immutable. Rather, they should copy
+ * out the range if they need it afterward.
+ *
+ */
+public interface RangeParsingVisitor extends ParsingVisitor {
+
+    /**
+     * Visits a hover event
+     *
+     * @param source the source text containing the hover event value
+     * @param start the start index of the value, inclusive
+     * @param end the end index of the value, exclusive
+     */
+    void visitHoverEvent(CharSequence source, int start, int end);
+
+    /**
+     * Visits a click event
+     *
+     * @param clickType the click type
+     * @param source the source text containing the click event value
+     * @param start the start index of the value, inclusive
+     * @param end the end index of the value, exclusive
+     */
+    void visitClickEvent(ClickEventInfo.ClickType clickType, CharSequence source, int start, int end);
+
+    /**
+     * Visits an insertion
+     *
+     * @param source the source text containing the insertion value
+     * @param start the start index of the value, inclusive
+     * @param end the end index of the value, exclusive
+     */
+    void visitInsertion(CharSequence source, int start, int end);
+
+    /**
+     * Visits plain text
+     *
+     * @param source the source text containing the simple text
+     * @param start the start index of the text, inclusive
+     * @param end the end index of the text, exclusive
+     */
+    void visitPlainText(CharSequence source, int start, int end);
+
+    @Override
+    default void visitHoverEvent(String hoverValue) {
+        visitHoverEvent(hoverValue, 0, hoverValue.length());
+    }
+
+    @Override
+    default void visitClickEvent(ClickEventInfo clickEventInfo) {
+        String value = clickEventInfo.value();
+        visitClickEvent(clickEventInfo.clickType(), value, 0, value.length());
+    }
+
+    @Override
+    default void visitInsertion(String value) {
+        visitInsertion(value, 0, value.length());
+    }
+
+    @Override
+    default void visitPlainText(String text) {
+        visitPlainText(text, 0, text.length());
+    }
+
+}
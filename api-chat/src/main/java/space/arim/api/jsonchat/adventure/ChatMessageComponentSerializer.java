@@ -23,15 +23,23 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import space.arim.api.jsonchat.ChatMessageParser;
-import space.arim.api.jsonchat.ChatMessagePart;
 import space.arim.api.jsonchat.ChatMessageReconstitutor;
-import space.arim.api.jsonchat.adventure.internal.AddedFunctionalityPeekingIterator;
-import space.arim.api.jsonchat.adventure.internal.ComponentIterator;
-import space.arim.api.jsonchat.adventure.internal.ComponentToMessagePartIterator;
+import space.arim.api.jsonchat.adventure.internal.ComponentMessageWriter;
+import space.arim.api.jsonchat.adventure.internal.LruCache;
 import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A component serializer which converts chat messages to and from the
@@ -52,6 +60,9 @@ public final class ChatMessageComponentSerializer implements ComponentSerializer
 
     private final FormattingSerializer formattingSerializer;
     private final Adventure5Compat adventure5Compat;
+    /** Null if disabled */
+    private final LruCache<String, Component> deserializationCache;
+    private final ComponentMessageWriter messageWriter;
 
     /**
      * Creates from a given formatting serializer, which may be used to change
@@ -65,8 +76,34 @@ public final class ChatMessageComponentSerializer implements ComponentSerializer
      * @param adventure5Compat adventure 5 compatibility
      */
     public ChatMessageComponentSerializer(FormattingSerializer formattingSerializer, Adventure5Compat adventure5Compat) {
+        this(formattingSerializer, adventure5Compat, 0);
+    }
+
+    /**
+     * Creates from a given formatting serializer, with a cache of deserialized messages. <br>
+     * <br>
+     * The cache holds up to {@code cacheSize} of the most recently deserialized messages, keyed
+     * by the input string. This benefits callers which deserialize the same messages repeatedly.
+     * Where messages differ only by placeholder values, {@link #compileTemplate(String, Set)}
+     * is more suitable. <br>
+     * <br>
+     * See {@link #ChatMessageComponentSerializer(FormattingSerializer, Adventure5Compat)}
+     * for the use of the formatting serializer.
+     *
+     * @param formattingSerializer the formatting serializer
+     * @param adventure5Compat adventure 5 compatibility
+     * @param cacheSize the maximum amount of cached messages, or 0 to disable caching
+     * @throws IllegalArgumentException if {@code cacheSize} is negative
+     */
+    public ChatMessageComponentSerializer(FormattingSerializer formattingSerializer, Adventure5Compat adventure5Compat,
+                                          int cacheSize) {
         this.formattingSerializer = Objects.requireNonNull(formattingSerializer, "formattingSerializer");
         this.adventure5Compat = Objects.requireNonNull(adventure5Compat, "adventure5Compat");
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        deserializationCache = (cacheSize == 0) ? null : new LruCache<>(cacheSize);
+        messageWriter = new ComponentMessageWriter(adventure5Compat, formattingSerializer);
     }
 
     /**
@@ -79,11 +116,140 @@ public final class ChatMessageComponentSerializer implements ComponentSerializer
      */
     @Override
     public @NonNull Component deserialize(@NonNull String input) {
+        if (deserializationCache != null) {
+            return deserializationCache.get(input, this::deserializeUncached);
+        }
+        return deserializeUncached(input);
+    }
+
+    private Component deserializeUncached(String input) {
         ComponentVisitor visitor = new ComponentVisitor(formattingSerializer, adventure5Compat);
         new ChatMessageParser(visitor, input).parse();
         return visitor.buildResult();
     }
 
+    /**
+     * Parses many JSON.sk format strings in parallel using the common {@code ForkJoinPool}. <br>
+     * <br>
+     * Equivalent to {@link #deserializeAll(Collection, Executor)} with {@link ForkJoinPool#commonPool()}
+     *
+     * @param inputs the JSON.sk format strings
+     * @return a future of the results, in the same order as the inputs
+     */
+    public CompletableFuture<List<DeserializationResult>> deserializeAll(Collection<String> inputs) {
+        return deserializeAll(inputs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses many JSON.sk format strings in parallel. The work is divided into chunks which
+     * are run on the given executor. <br>
+     * <br>
+     * A failure to deserialize one input does not prevent the others from being deserialized.
+     * Rather, the failure is recorded in the result for that input.
+     *
+     * @param inputs the JSON.sk format strings
+     * @param executor the executor on which to deserialize
+     * @return a future of the results, in the same order as the inputs
+     */
+    public CompletableFuture<List<DeserializationResult>> deserializeAll(Collection<String> inputs,
+                                                                         Executor executor) {
+        String[] inputArray = inputs.toArray(String[]::new);
+        DeserializationResult[] results = new DeserializationResult[inputArray.length];
+        return deserializeChunked(inputArray, results, executor).thenApply((ignore) -> List.of(results));
+    }
+
+    /**
+     * Parses many JSON.sk format strings, the values of a map, in parallel using the common
+     * {@code ForkJoinPool}. <br>
+     * <br>
+     * Equivalent to {@link #deserializeAll(Map, Executor)} with {@link ForkJoinPool#commonPool()}
+     *
+     * @param inputs the JSON.sk format strings, keyed by any key
+     * @param <K> the key type
+     * @return a future of the results, with the same keys and iteration order as the inputs
+     */
+    public <K> CompletableFuture<Map<K, DeserializationResult>> deserializeAll(Map<K, String> inputs) {
+        return deserializeAll(inputs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses many JSON.sk format strings, the values of a map, in parallel. The work is divided
+     * into chunks which are run on the given executor. <br>
+     * <br>
+     * A failure to deserialize one input does not prevent the others from being deserialized.
+     * Rather, the failure is recorded in the result for that input.
+     *
+     * @param inputs the JSON.sk format strings, keyed by any key
+     * @param executor the executor on which to deserialize
+     * @param <K> the key type
+     * @return a future of the results, with the same keys and iteration order as the inputs
+     */
+    public <K> CompletableFuture<Map<K, DeserializationResult>> deserializeAll(Map<K, String> inputs,
+                                                                               Executor executor) {
+        int size = inputs.size();
+        List<K> keys = new ArrayList<>(size);
+        String[] inputArray = new String[size];
+        int index = 0;
+        for (Map.Entry<K, String> entry : inputs.entrySet()) {
+            keys.add(entry.getKey());
+            inputArray[index++] = entry.getValue();
+        }
+        DeserializationResult[] results = new DeserializationResult[size];
+        return deserializeChunked(inputArray, results, executor).thenApply((ignore) -> {
+            Map<K, DeserializationResult> resultMap = new LinkedHashMap<>(size * 4 / 3 + 1);
+            for (int n = 0; n < size; n++) {
+                resultMap.put(keys.get(n), results[n]);
+            }
+            return resultMap;
+        });
+    }
+
+    private CompletableFuture<Void> deserializeChunked(String[] inputs, DeserializationResult[] results,
+                                                       Executor executor) {
+        int parallelism = (executor instanceof ForkJoinPool) ?
+                ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        // Several chunks per thread evens out differences in message length
+        int chunkCount = Math.min(inputs.length, parallelism * 4);
+        if (chunkCount == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int start = (int) ((long) inputs.length * chunk / chunkCount);
+            int end = (int) ((long) inputs.length * (chunk + 1) / chunkCount);
+            futures[chunk] = CompletableFuture.runAsync(() -> {
+                for (int n = start; n < end; n++) {
+                    results[n] = deserializeToResult(inputs[n]);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private DeserializationResult deserializeToResult(String input) {
+        Component component;
+        try {
+            component = deserialize(input);
+        } catch (RuntimeException ex) {
+            return new DeserializationResult(input, null, ex);
+        }
+        return new DeserializationResult(input, component, null);
+    }
+
+    /**
+     * Parses a JSON.sk format string as a template with the given placeholders. The template
+     * may then be rendered with different placeholder values without parsing the message again.
+     * See {@link ChatMessageTemplate} for how placeholders are recognized.
+     *
+     * @param input the JSON.sk format string
+     * @param placeholders the placeholders, such as "%player%". Must not be empty strings
+     * @return the template
+     * @throws IllegalArgumentException if any placeholder is empty
+     */
+    public ChatMessageTemplate compileTemplate(String input, Set<String> placeholders) {
+        return new ChatMessageTemplate(deserialize(input), placeholders, adventure5Compat);
+    }
+
     /**
      * Reconstitutes a JSON.sk format string from a {@code Component}. Will re-formulate
      * any escape sequences which may have been used to create the original component. <br>
@@ -101,13 +267,26 @@ public final class ChatMessageComponentSerializer implements ComponentSerializer
     @Override
     public @NonNull String serialize(@NonNull Component component) {
         var reconstitutor = new ChatMessageReconstitutor();
-        Iterator<ChatMessagePart> messagePartIterator =
-                new ComponentToMessagePartIterator(
-                        adventure5Compat,
-                        new AddedFunctionalityPeekingIterator<>(new ComponentIterator(component)),
-                        formattingSerializer
-                );
-        reconstitutor.writeAllMessageParts(messagePartIterator);
+        messageWriter.write(component, reconstitutor);
         return reconstitutor.reconstitute();
     }
+
+    /**
+     * Reconstitutes a JSON.sk format string from a {@code Component}, writing it to the
+     * given output rather than creating a string. Otherwise identical to {@link #serialize(Component)}.
+     *
+     * @param component the component
+     * @param output the output to which to write the JSON.sk format string
+     * @throws IOException if the output threw an {@code IOException}
+     * @throws UnsupportedOperationException if the component uses an adventure feature
+     * not representable in the JSON.sk format
+     */
+    public void serialize(Component component, Appendable output) throws IOException {
+        var reconstitutor = new ChatMessageReconstitutor(output);
+        try {
+            messageWriter.write(component, reconstitutor);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure;
+
+import net.kyori.adventure.text.Component;
+import space.arim.api.jsonchat.adventure.internal.ComponentTemplate;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+import space.arim.api.jsonchat.adventure.util.TextGoal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A message which has been parsed once, in advance, and may be rendered many times
+ * with different values for its placeholders. Obtained from
+ * {@link ChatMessageComponentSerializer#compileTemplate(String, Set)}. <br>
+ * <br>
+ * Rendering does not parse the message again. Parts of the message which contain no
+ * placeholders are shared between rendered components, and only the parts which contain
+ * placeholders are rebuilt. <br>
+ * <br>
+ * Placeholders are recognized in the content of text components, in hover text, in click
+ * event values, and in insertions. A placeholder which spans differently formatted text is not
+ * recognized. Where placeholders overlap, the leftmost and then the longest is used. <br>
+ * <br>
+ * Placeholder values are inserted as literal text. They are not interpreted for formatting
+ * codes or JSON.sk tags, which makes it safe to use values such as player names and chat input. <br>
+ * <br>
+ * Templates are immutable and thread safe.
+ *
+ */
+public final class ChatMessageTemplate {
+
+    private final Component component;
+    private final Set<String> placeholders;
+    private final ComponentTemplate template;
+
+    ChatMessageTemplate(Component component, Set<String> placeholders, Adventure5Compat adventure5Compat) {
+        this.component = Objects.requireNonNull(component, "component");
+        this.placeholders = Set.copyOf(placeholders);
+        for (String placeholder : this.placeholders) {
+            if (placeholder.isEmpty()) {
+                throw new IllegalArgumentException("Placeholders must not be empty");
+            }
+        }
+        template = ComponentTemplate.compile(
+                component, this.placeholders, TextGoal.allGoals(), TextGoal.allGoals(), adventure5Compat);
+    }
+
+    /**
+     * Gets the component from which this template was compiled, with all placeholders
+     * left as they are
+     *
+     * @return the unrendered component
+     */
+    public Component component() {
+        return component;
+    }
+
+    /**
+     * Gets the placeholders this template recognizes
+     *
+     * @return the immutable set of placeholders
+     */
+    public Set<String> placeholders() {
+        return placeholders;
+    }
+
+    /**
+     * Renders this template by replacing each placeholder with its value. Placeholders
+     * without a value in the map are left as they are.
+     *
+     * @param values the values of the placeholders, keyed by placeholder
+     * @return the rendered component
+     */
+    public Component render(Map<String, ? extends CharSequence> values) {
+        Objects.requireNonNull(values, "values");
+        return template.render(values);
+    }
+
+}
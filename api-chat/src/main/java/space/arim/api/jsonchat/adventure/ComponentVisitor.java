@@ -27,7 +27,7 @@ import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import space.arim.api.jsonchat.ChatMessageParser;
 import space.arim.api.jsonchat.ClickEventInfo;
-import space.arim.api.jsonchat.ParsingVisitor;
+import space.arim.api.jsonchat.RangeParsingVisitor;
 import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
 
 import java.util.ArrayList;
@@ -35,7 +35,7 @@ import java.util.List;
 import java.util.Objects;
 
 /**
- * A {@link ParsingVisitor} intended to be used with {@link ChatMessageParser}
+ * A {@link RangeParsingVisitor} intended to be used with {@link ChatMessageParser}
  * in order to parse a message in the JSON.sk format. <br>
  * <br>
  * After creating an instance and running the parser, {@link #buildResult()}
@@ -44,7 +44,7 @@ import java.util.Objects;
  * {@code ComponentVisitor}s are mutable and non-reusable. They are not thread safe.
  *
  */
-public final class ComponentVisitor implements ParsingVisitor {
+public final class ComponentVisitor implements RangeParsingVisitor {
 
     private final FormattingSerializer formattingSerializer;
     private final Adventure5Compat adventure5Compat;
@@ -71,15 +71,15 @@ public final class ComponentVisitor implements ParsingVisitor {
     }
 
     @Override
-    public void visitHoverEvent(String hoverValue) {
-        Component hoverComponent = combineComponents(formattingSerializer.readFormatting(hoverValue));
+    public void visitHoverEvent(CharSequence source, int start, int end) {
+        Component hoverComponent = combineComponents(formattingSerializer.readFormatting(source, start, end));
         currentHover = HoverEvent.showText(hoverComponent);
     }
 
     @Override
-    public void visitClickEvent(ClickEventInfo clickEventInfo) {
-        String value = clickEventInfo.value();
-        currentClick = switch (clickEventInfo.clickType()) {
+    public void visitClickEvent(ClickEventInfo.ClickType clickType, CharSequence source, int start, int end) {
+        String value = source.subSequence(start, end).toString();
+        currentClick = switch (clickType) {
             case RUN_COMMAND -> ClickEvent.runCommand(value);
             case SUGGEST_COMMAND -> ClickEvent.suggestCommand(value);
             case OPEN_URL -> ClickEvent.openUrl(value);
@@ -87,20 +87,27 @@ public final class ComponentVisitor implements ParsingVisitor {
     }
 
     @Override
-    public void visitInsertion(String value) {
-        currentInsertion = value;
+    public void visitInsertion(CharSequence source, int start, int end) {
+        currentInsertion = source.subSequence(start, end).toString();
     }
 
     @Override
-    public void visitPlainText(String text) {
+    public void visitPlainText(CharSequence source, int start, int end) {
         updateBuilders();
         currentHover = null;
         currentClick = null;
         currentInsertion = null;
-        componentsOrBuilders.addAll(formattingSerializer.readFormatting(text));
+        componentsOrBuilders.addAll(formattingSerializer.readFormatting(source, start, end));
     }
 
     private void updateBuilders() {
+        if (currentHover == null && currentClick == null && currentInsertion == null) {
+            // Nothing to apply. Leaves the style of each component, which may be a shared instance, untouched
+            assert componentsOrBuilders.subList(index, componentsOrBuilders.size()).stream()
+                    .allMatch(ComponentVisitor::verifyContract);
+            index = componentsOrBuilders.size();
+            return;
+        }
         for (int n = index; n < componentsOrBuilders.size(); n++) {
 
             ComponentLike componentOrBuilder = componentsOrBuilders.get(n);
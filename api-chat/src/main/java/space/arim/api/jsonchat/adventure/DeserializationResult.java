@@ -0,0 +1,59 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure;
+
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The outcome of deserializing a single message as part of a batch. Exactly one of
+ * {@code component} and {@code failure} is nonnull.
+ *
+ * @param input the input message
+ * @param component the deserialized component, or null if deserialization failed
+ * @param failure the reason deserialization failed, or null if it succeeded
+ */
+public record DeserializationResult(@Nullable String input, @Nullable Component component,
+                                    @Nullable RuntimeException failure) {
+
+    /**
+     * Creates the result
+     *
+     * @param input the input message
+     * @param component the deserialized component, or null if deserialization failed
+     * @param failure the reason deserialization failed, or null if it succeeded
+     * @throws IllegalArgumentException if both or neither of the component and failure are null
+     */
+    public DeserializationResult {
+        if ((component == null) == (failure == null)) {
+            throw new IllegalArgumentException("Exactly one of component and failure must be set");
+        }
+    }
+
+    /**
+     * Whether deserialization succeeded
+     *
+     * @return true if the component is present, false if there is a failure
+     */
+    public boolean succeeded() {
+        return component != null;
+    }
+
+}
@@ -56,6 +56,26 @@ public interface FormattingSerializer {
      */
     List<? extends ComponentLike> readFormatting(String text);
 
+    /**
+     * Reads a range of colored and styled text as components. Identical to
+     * {@link #readFormatting(String)} except that the text is given as a range within
+     * a larger character sequence. <br>
+     * <br>
+     * The {@code source} is only valid for the duration of the method call. Implementations
+     * should copy out any text they wish to retain and must not modify the source. <br>
+     * <br>
+     * The default implementation copies the range to a string and calls {@link #readFormatting(String)}.
+     * Implementations are encouraged to override this method to avoid that copy.
+     *
+     * @param source the source text, a range of which may be interpreted using the color formatting scheme
+     * @param start the start index of the text, inclusive
+     * @param end the end index of the text, exclusive
+     * @return the colored components, which may be unfinished builders.
+     */
+    default List<? extends ComponentLike> readFormatting(CharSequence source, int start, int end) {
+        return readFormatting(source.subSequence(start, end).toString());
+    }
+
     /**
      * Writes components as colored and styled text. Should be the inverse operation
      * of {@link #readFormatting(String)}. <br>
@@ -22,21 +22,17 @@ package space.arim.api.jsonchat.adventure;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.TextComponent;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import space.arim.api.jsonchat.adventure.internal.ColorCodes;
 import space.arim.api.jsonchat.adventure.internal.ComponentSerialization;
+import space.arim.api.jsonchat.adventure.internal.StyleCache;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Formatting serializer which uses {@literal '&'} formatting codes as well as a syntax
@@ -51,17 +47,47 @@ import java.util.regex.Pattern;
  * {@literal <#00FFFF>}
  * {@literal <#0FF>} (equivalent to the previous)
  * </pre>
+ * Anything which is not a recognized code, such as {@literal &p}, is left as literal text.
  *
  */
 public final class JsonSkFormattingSerializer implements FormattingSerializer {
 
-    private static final Pattern COLOR_PATTERN = Pattern.compile(
-            // Legacy color codes
-            "(&[0-9A-Fa-fK-Rk-r])|"
-            // Hex codes such as <#00AAFF>
-            + "(<#[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f]>)|"
-            // and the shorter <#4BC>
-            + "(<#[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f]>)");
+    /*
+     * Lexer tables, indexed by character. Characters beyond the tables are never part of a code.
+     */
+
+    private static final byte NOT_A_CODE = -1;
+    /** Legacy codes 0 to 15 are colors, followed by the decorations, then the reset */
+    private static final byte FIRST_DECORATION_CODE = 16;
+    private static final byte RESET_CODE = 21;
+    private static final byte[] LEGACY_CODES = new byte[128];
+    private static final int[] LEGACY_COLORS = new int[16];
+    private static final int WHITE_LEGACY_INDEX = 15;
+    private static final TextDecoration[] LEGACY_DECORATIONS = {
+            TextDecoration.OBFUSCATED, TextDecoration.BOLD, TextDecoration.STRIKETHROUGH,
+            TextDecoration.UNDERLINED, TextDecoration.ITALIC
+    };
+    /** The value of each hex digit, otherwise -1 */
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(LEGACY_CODES, NOT_A_CODE);
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        String hexDigits = "0123456789abcdef";
+        for (byte n = 0; n < 16; n++) {
+            char lower = hexDigits.charAt(n);
+            char upper = Character.toUpperCase(lower);
+            LEGACY_CODES[lower] = LEGACY_CODES[upper] = n;
+            HEX_DIGITS[lower] = HEX_DIGITS[upper] = n;
+            LEGACY_COLORS[n] = ColorCodes.obtainColorFromCode(lower);
+        }
+        String decorationCodes = "klmno";
+        for (int n = 0; n < decorationCodes.length(); n++) {
+            char lower = decorationCodes.charAt(n);
+            LEGACY_CODES[lower] = LEGACY_CODES[Character.toUpperCase(lower)] = (byte) (FIRST_DECORATION_CODE + n);
+        }
+        LEGACY_CODES['r'] = LEGACY_CODES['R'] = RESET_CODE;
+    }
 
     /**
      * Creates the formatting serializer
@@ -70,101 +96,126 @@ public final class JsonSkFormattingSerializer implements FormattingSerializer {
 
     @Override
     public List<? extends ComponentLike> readFormatting(String text) {
-        ReadingState currentState = new ReadingState();
-        int beginIndex = 0;
-
-        Matcher matcher = COLOR_PATTERN.matcher(text);
-        while (matcher.find()) {
+        return readFormatting(text, 0, text.length());
+    }
 
-            int currentIndex = matcher.start();
-            String segment = text.substring(beginIndex, currentIndex);
-            if (!segment.isEmpty()) {
-                currentState.addComponent(segment);
+    @Override
+    public List<? extends ComponentLike> readFormatting(CharSequence source, int start, int end) {
+        ReadingState currentState = new ReadingState();
+        int beginIndex = start;
+        int index = start;
+        while (index < end) {
+            char current = source.charAt(index);
+            int codeLength = 0;
+            int legacyCode = NOT_A_CODE;
+            int hexColor = -1;
+            if (current == '&') {
+                if (index + 1 < end && (legacyCode = legacyCode(source.charAt(index + 1))) != NOT_A_CODE) {
+                    codeLength = 2;
+                }
+            } else if (current == '<' && index + 5 < end && source.charAt(index + 1) == '#') {
+                // Hex codes such as <#00AAFF> and the shorter <#4BC>
+                if (index + 8 < end && source.charAt(index + 8) == '>'
+                        && (hexColor = decodeHex(source, index + 2, 6)) != -1) {
+                    codeLength = 9;
+                } else if (source.charAt(index + 5) == '>'
+                        && (hexColor = decodeHex(source, index + 2, 3)) != -1) {
+                    hexColor = expandShortHex(hexColor);
+                    codeLength = 6;
+                }
+            }
+            if (codeLength == 0) {
+                index++;
+                continue;
+            }
+            if (beginIndex != index) {
+                currentState.addComponent(source.subSequence(beginIndex, index).toString());
+            }
+            if (legacyCode != NOT_A_CODE) {
+                currentState.applyLegacyCode(legacyCode);
+            } else {
+                currentState.applyColor(hexColor, -1);
             }
-            currentState.updateFormatting(matcher.group());
             // prepare for the next segment by updating the starting index
-            beginIndex = matcher.end();
+            index += codeLength;
+            beginIndex = index;
         }
-        String remaining = text.substring(beginIndex);
-        if (!remaining.isEmpty()) {
-            currentState.addComponent(remaining);
+        if (beginIndex != end) {
+            currentState.addComponent(source.subSequence(beginIndex, end).toString());
         }
         return currentState.finish();
     }
 
+    private static int legacyCode(char codeChar) {
+        return (codeChar < LEGACY_CODES.length) ? LEGACY_CODES[codeChar] : NOT_A_CODE;
+    }
+
+    /**
+     * Decodes hex digits
+     *
+     * @param source the source text
+     * @param from the index of the first digit
+     * @param digitCount the amount of digits
+     * @return the decoded value, or -1 if any character is not a hex digit
+     */
+    private static int decodeHex(CharSequence source, int from, int digitCount) {
+        int value = 0;
+        for (int n = from; n < from + digitCount; n++) {
+            char digitChar = source.charAt(n);
+            int digit;
+            if (digitChar >= HEX_DIGITS.length || (digit = HEX_DIGITS[digitChar]) == -1) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Expands a 3 digit hex color to its 6 digit equivalent, e.g. 0x4BC to 0x44BBCC
+     *
+     * @param shortHex the 3 digit hex color
+     * @return the 6 digit hex color
+     */
+    private static int expandShortHex(int shortHex) {
+        int red = (shortHex >> 8) & 0xF;
+        int green = (shortHex >> 4) & 0xF;
+        int blue = shortHex & 0xF;
+        return (red * 0x11) << 16 | (green * 0x11) << 8 | (blue * 0x11);
+    }
+
     private static class ReadingState {
 
         private final List<TextComponent.Builder> components = new ArrayList<>();
-        private TextColor currentColor = NamedTextColor.WHITE;
-        private final Set<TextDecoration> decorations = EnumSet.noneOf(TextDecoration.class);
+        private int currentColor = LEGACY_COLORS[WHITE_LEGACY_INDEX];
+        /** The legacy index of the current color, or -1 for colors set by hex code */
+        private int currentLegacyIndex = WHITE_LEGACY_INDEX;
+        private int decorationMask;
 
         private void addComponent(String text) {
-            TextComponent.Builder componentBuilder = Component.text().content(text).color(currentColor);
-            componentBuilder.decorations(decorations, true);
-            components.add(componentBuilder);
+            Style style = (currentLegacyIndex == -1) ?
+                    StyleCache.style(currentColor, decorationMask) : StyleCache.legacyStyle(currentLegacyIndex, decorationMask);
+            components.add(Component.text().content(text).style(style));
         }
 
-        private void updateFormattingFromCode(String formatCode) {
-            char codeChar = formatCode.charAt(1);
-            switch (codeChar) {
-            case 'K':
-            case 'k':
-                decorations.add(TextDecoration.OBFUSCATED);
-                break;
-            case 'L':
-            case 'l':
-                decorations.add(TextDecoration.BOLD);
-                break;
-            case 'M':
-            case 'm':
-                decorations.add(TextDecoration.STRIKETHROUGH);
-                break;
-            case 'N':
-            case 'n':
-                decorations.add(TextDecoration.UNDERLINED);
-                break;
-            case 'O':
-            case 'o':
-                decorations.add(TextDecoration.ITALIC);
-                break;
-            case 'R':
-            case 'r':
-                currentColor = NamedTextColor.WHITE;
-                break;
-            default:
-                int color = ColorCodes.obtainColorFromCode(codeChar);
-                currentColor = TextColor.color(color);
-                break;
+        void applyLegacyCode(int legacyCode) {
+            if (legacyCode < FIRST_DECORATION_CODE) {
+                applyColor(LEGACY_COLORS[legacyCode], legacyCode);
+            } else if (legacyCode == RESET_CODE) {
+                // Reset decorations even if the color is already white
+                decorationMask = 0;
+                applyColor(LEGACY_COLORS[WHITE_LEGACY_INDEX], WHITE_LEGACY_INDEX);
+            } else {
+                decorationMask |= StyleCache.decorationBit(LEGACY_DECORATIONS[legacyCode - FIRST_DECORATION_CODE]);
             }
         }
 
-        private void setHexColor(String hex) {
-            int color = Integer.parseInt(hex, 16);
-            currentColor = TextColor.color(color);
-        }
-
-        void updateFormatting(String formatGroup) {
-            TextColor oldColor = currentColor;
-            switch (formatGroup.length()) {
-            case 2:
-                updateFormattingFromCode(formatGroup);
-                break;
-            case 6:
-                // Shortened hex colour code
-                char[] shortHex = formatGroup.substring(2, 5).toCharArray();
-                char[] fullHex = new char[] {shortHex[0], shortHex[0], shortHex[1], shortHex[1], shortHex[2], shortHex[2]};
-                setHexColor(String.valueOf(fullHex));
-                break;
-            case 9:
-                // Full hex colour code
-                setHexColor(formatGroup.substring(2, 8));
-                break;
-            default:
-                throw new IllegalStateException("Matched formatting " + formatGroup + " has no known way to be handled");
-            }
-            if (!currentColor.equals(oldColor)) {
-                decorations.clear();
+        void applyColor(int color, int legacyIndex) {
+            if (color != currentColor) {
+                decorationMask = 0;
             }
+            currentColor = color;
+            currentLegacyIndex = legacyIndex;
         }
 
         List<? extends ComponentLike> finish() {
@@ -186,8 +237,20 @@ public final class JsonSkFormattingSerializer implements FormattingSerializer {
 
     private static class WritingState {
 
+        private static final int WHITE = LEGACY_COLORS[WHITE_LEGACY_INDEX];
+        private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+        /** Indexed by decoration ordinal */
+        private static final char[] DECORATION_CHARACTERS = new char[DECORATIONS.length];
+
+        static {
+            for (TextDecoration decoration : DECORATIONS) {
+                DECORATION_CHARACTERS[decoration.ordinal()] = getCharacter(decoration);
+            }
+        }
+
         private Style currentStyle = Style.empty();
-        private TextColor currentColor = NamedTextColor.WHITE;
+        private int currentColor = WHITE;
+        private int currentDecorations;
         private final Appendable output;
 
         WritingState(Appendable output) {
@@ -199,60 +262,53 @@ public final class JsonSkFormattingSerializer implements FormattingSerializer {
             if (content.isEmpty()) {
                 return;
             }
-            TextColor color = Objects.requireNonNullElse(component.color(), NamedTextColor.WHITE);
             Style style = component.style();
+            TextColor textColor = style.color();
+            int color = (textColor == null) ? WHITE : textColor.value();
+            // Styles are often shared, in which case the decorations are known
+            int decorations = (style == currentStyle) ? currentDecorations : decorationMask(style);
 
-            boolean decorsDiffer = !currentStyleDecorationsMatch(style);
-            boolean colorDiffers = !currentColor.equals(color);
-            if (colorDiffers) {
+            if (color != currentColor) {
                 appendColor(color);
                 // Re-apply styles since changing color is an implicit reset
-                appendStyles(style);
+                appendDecorations(decorations);
 
-            } else if (decorsDiffer) {
-                // Change to the new styles
-                // Possible future improvement: Don't reset when the new styles are a superset of the old ones
-                boolean reset = anyDecorationPresent(currentStyle);
-                if (reset) {
+            } else if (decorations != currentDecorations) {
+                if ((decorations & currentDecorations) == currentDecorations) {
+                    // The new styles are a superset of the old ones, so add only the difference
+                    appendDecorations(decorations & ~currentDecorations);
+                } else {
                     output.append("&r");
-                    appendColor(color);
+                    if (color != WHITE) {
+                        appendColor(color);
+                    }
+                    appendDecorations(decorations);
                 }
-                appendStyles(style);
             }
             currentColor = color;
+            currentDecorations = decorations;
             currentStyle = style;
             output.append(content);
         }
 
-        private boolean currentStyleDecorationsMatch(Style otherStyle) {
-            if (currentStyle == otherStyle) {
-                return true;
-            }
-            for (TextDecoration decoration : TextDecoration.values()) {
-                if (currentStyle.hasDecoration(decoration) != otherStyle.hasDecoration(decoration)) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
-        private static boolean anyDecorationPresent(Style style) {
-            for (TextDecoration decoration : TextDecoration.values()) {
+        private static int decorationMask(Style style) {
+            int decorationMask = 0;
+            for (TextDecoration decoration : DECORATIONS) {
                 if (style.hasDecoration(decoration)) {
-                    return true;
+                    decorationMask |= StyleCache.decorationBit(decoration);
                 }
             }
-            return false;
+            return decorationMask;
         }
 
-        private void appendColor(TextColor color) throws IOException {
+        private void appendColor(int color) throws IOException {
             ComponentSerialization.appendColor(color, output);
         }
 
-        private void appendStyles(Style style) throws IOException {
-            for (TextDecoration decoration : TextDecoration.values()) {
-                if (style.hasDecoration(decoration)) {
-                    output.append('&').append(getCharacter(decoration));
+        private void appendDecorations(int decorationMask) throws IOException {
+            for (TextDecoration decoration : DECORATIONS) {
+                if ((decorationMask & StyleCache.decorationBit(decoration)) != 0) {
+                    output.append('&').append(DECORATION_CHARACTERS[decoration.ordinal()]);
                 }
             }
         }
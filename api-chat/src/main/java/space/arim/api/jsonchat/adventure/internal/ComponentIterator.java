@@ -1,6 +1,6 @@
 /*
  * ArimAPI
- * Copyright © 2021 Anand Beh
+ * Copyright © 2026 Anand Beh
  *
  * ArimAPI is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -20,58 +20,30 @@
 package space.arim.api.jsonchat.adventure.internal;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.Style;
-
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
 
+/**
+ * Iterates over a component tree, yielding each component with its inherited
+ * style merged in. Consumers which can work with the effective style directly
+ * should prefer {@link StyledComponentIterator}, which avoids rebuilding components.
+ *
+ */
 public final class ComponentIterator extends IteratorBase<Component> {
 
-    private Component parent;
-    private final List<Component> components;
-    private int position;
-    private ComponentIterator childIterator;
-
-    private ComponentIterator(List<Component> components) {
-        this.components = components;
-    }
+    private final StyledComponentIterator delegate;
 
     public ComponentIterator(Component...components) {
-        this(Arrays.asList(components));
+        delegate = new StyledComponentIterator(components);
     }
 
     public ComponentIterator(Component component) {
-        this(List.of(component));
+        delegate = new StyledComponentIterator(component);
     }
 
     @Override
     protected Component getNext() {
-        if (childIterator != null) {
-            if (childIterator.hasNext()) {
-                return childIterator.next();
-            }
-            childIterator = null;
-        }
-        if (position == components.size()) {
+        if (!delegate.hasNext()) {
             return null;
         }
-        Component current = components.get(position++);
-        if (parent != null) {
-            current = inheritParentInfo(current);
-        }
-        List<Component> children = current.children();
-        if (!children.isEmpty()) {
-            childIterator = new ComponentIterator(children);
-            childIterator.parent = current;
-        }
-        return current;
-    }
-
-    private Component inheritParentInfo(Component subject) {
-        Style newStyle = subject.style().merge(parent.style(),
-                Style.Merge.Strategy.IF_ABSENT_ON_TARGET,
-                Set.of(Style.Merge.values()));
-        return subject.style(newStyle);
+        return delegate.next().materialize();
     }
 }
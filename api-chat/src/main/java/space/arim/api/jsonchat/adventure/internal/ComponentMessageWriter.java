@@ -0,0 +1,173 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import space.arim.api.jsonchat.ChatMessageReconstitutor;
+import space.arim.api.jsonchat.adventure.FormattingSerializer;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Writes a component to a reconstitutor, producing the same output as writing the message
+ * parts of a {@link ComponentToMessagePartIterator}. However, the formatting serializer
+ * writes straight into the reconstitutor, without creating a new list of components for each
+ * message part, intermediate text, or {@code ChatMessagePart}s.
+ *
+ */
+public final class ComponentMessageWriter {
+
+    private final Adventure5Compat adventure5Compat;
+    private final FormattingSerializer formattingSerializer;
+
+    public ComponentMessageWriter(Adventure5Compat adventure5Compat, FormattingSerializer formattingSerializer) {
+        this.adventure5Compat = adventure5Compat;
+        this.formattingSerializer = formattingSerializer;
+    }
+
+    /**
+     * Writes a component
+     *
+     * @param component the component
+     * @param reconstitutor the reconstitutor to write to
+     * @throws UncheckedIOException if the reconstitutor failed to write to its output
+     * @throws UnsupportedOperationException if the component uses a feature not representable
+     */
+    public void write(Component component, ChatMessageReconstitutor reconstitutor) {
+        PeekingIterator<StyledComponent> componentIterator =
+                new AddedFunctionalityPeekingIterator<>(new StyledComponentIterator(component));
+        ComponentsWithSameEvents componentsWithSameEvents = new ComponentsWithSameEvents(componentIterator);
+        try {
+            while (componentIterator.hasNext()) {
+                StyledComponent firstComponent = componentIterator.next();
+                HoverEvent<?> hover = firstComponent.hoverEvent();
+                ClickEvent click = firstComponent.clickEvent();
+                String insertion = firstComponent.insertion();
+
+                componentsWithSameEvents.start(firstComponent);
+                formattingSerializer.writeFormatting(componentsWithSameEvents, reconstitutor.beginPlainText());
+                // In case the formatting serializer did not traverse every component
+                componentsWithSameEvents.skipRemaining();
+
+                if (hover != null) {
+                    writeHover(hover, reconstitutor);
+                }
+                if (click != null) {
+                    reconstitutor.writeClickEvent(
+                            adventure5Compat.clickActionToType(click.action()),
+                            adventure5Compat.clickEventValue(click));
+                }
+                if (insertion != null) {
+                    reconstitutor.writeInsertion(insertion);
+                }
+            }
+        } catch (IOException ex) {
+            // The reconstitutor's appendable reports failures as UncheckedIOException
+            throw new UncheckedIOException("Shouldn't happen - broken formatting serializer", ex);
+        }
+        reconstitutor.finishSegment();
+    }
+
+    private void writeHover(HoverEvent<?> hover, ChatMessageReconstitutor reconstitutor) throws IOException {
+        if (hover.action() != HoverEvent.Action.SHOW_TEXT) {
+            throw new UnsupportedOperationException("Hover event action " + hover.action() + " not supported");
+        }
+        Component hoverText = (Component) hover.value();
+        formattingSerializer.writeFormatting(() -> new ComponentIterator(hoverText), reconstitutor.beginHoverEvent());
+    }
+
+    /**
+     * Yields the components of a single message part, consuming from the component iterator
+     * only while the events stay the same. Re-used for every message part. <br>
+     * <br>
+     * Each call to {@code iterator()} starts a new traversal. Components already consumed are
+     * remembered, so that formatting serializers may traverse more than once.
+     */
+    private static final class ComponentsWithSameEvents implements Iterable<Component> {
+
+        private final PeekingIterator<StyledComponent> componentIterator;
+        /** Components of the current message part consumed so far */
+        private final List<Component> consumed = new ArrayList<>();
+        private HoverEvent<?> hover;
+        private ClickEvent click;
+        private String insertion;
+
+        ComponentsWithSameEvents(PeekingIterator<StyledComponent> componentIterator) {
+            this.componentIterator = componentIterator;
+        }
+
+        void start(StyledComponent first) {
+            consumed.clear();
+            consumed.add(first.materialize());
+            hover = first.hoverEvent();
+            click = first.clickEvent();
+            insertion = first.insertion();
+        }
+
+        void skipRemaining() {
+            while (hasMore()) {
+                componentIterator.next();
+            }
+        }
+
+        private boolean hasMore() {
+            if (!componentIterator.hasNext()) {
+                return false;
+            }
+            StyledComponent nextComponent = componentIterator.peek();
+            return EventEquality.sameEvents(hover, click, insertion,
+                    nextComponent.hoverEvent(), nextComponent.clickEvent(), nextComponent.insertion());
+        }
+
+        @Override
+        public Iterator<Component> iterator() {
+            return new Traversal();
+        }
+
+        private final class Traversal implements Iterator<Component> {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < consumed.size() || hasMore();
+            }
+
+            @Override
+            public Component next() {
+                if (index == consumed.size()) {
+                    if (!hasMore()) {
+                        throw new NoSuchElementException();
+                    }
+                    consumed.add(componentIterator.next().materialize());
+                }
+                return consumed.get(index++);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+import space.arim.api.jsonchat.adventure.util.TextGoal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A component compiled for repeated placeholder replacement. Records which components,
+ * and which parts of them, contain which placeholders. Rendering rebuilds only the
+ * components on the path to a placeholder, and shares every other component by reference. <br>
+ * <br>
+ * Immutable and thread safe.
+ *
+ */
+public final class ComponentTemplate {
+
+    private final Node root;
+
+    private ComponentTemplate(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles a component
+     *
+     * @param component the component
+     * @param placeholders the placeholders, none of which may be empty
+     * @param goals the parts of the component in which to recognize placeholders
+     * @param hoverGoals the parts of hover text in which to recognize placeholders
+     * @param adventure5Compat the adventure 5 compatibility layer
+     * @return the compiled template
+     * @throws IllegalArgumentException if any placeholder is empty
+     */
+    public static ComponentTemplate compile(Component component, Set<String> placeholders,
+                                            Set<TextGoal> goals, Set<TextGoal> hoverGoals,
+                                            Adventure5Compat adventure5Compat) {
+        return new ComponentTemplate(
+                new Compiler(placeholders, adventure5Compat).compile(component, goals, hoverGoals));
+    }
+
+    /**
+     * Renders by replacing each placeholder with its value. Placeholders without a
+     * value in the map are left as they are.
+     *
+     * @param values the values of the placeholders, keyed by placeholder
+     * @return the rendered component, which is the original component if there are no placeholders
+     */
+    public Component render(Map<String, ? extends CharSequence> values) {
+        return root.render(values);
+    }
+
+    private interface Node {
+
+        Component render(Map<String, ? extends CharSequence> values);
+
+    }
+
+    private record ConstantNode(Component component) implements Node {
+
+        @Override
+        public Component render(Map<String, ? extends CharSequence> values) {
+            return component;
+        }
+    }
+
+    /**
+     * A component with placeholders in itself or its children. Each field is null
+     * when the corresponding part of the component contains no placeholders.
+     */
+    private static final class TemplateNode implements Node {
+
+        private final Component original;
+        private final Adventure5Compat adventure5Compat;
+        private final TemplateText content;
+        private final TemplateText clickValue;
+        private final TemplateText insertion;
+        private final Node hoverText;
+        private final Node[] children;
+
+        TemplateNode(Component original, Adventure5Compat adventure5Compat,
+                     TemplateText content, TemplateText clickValue, TemplateText insertion,
+                     Node hoverText, Node[] children) {
+            this.original = original;
+            this.adventure5Compat = adventure5Compat;
+            this.content = content;
+            this.clickValue = clickValue;
+            this.insertion = insertion;
+            this.hoverText = hoverText;
+            this.children = children;
+        }
+
+        @Override
+        public Component render(Map<String, ? extends CharSequence> values) {
+            Style style = original.style();
+            if (clickValue != null) {
+                String value = clickValue.render(values);
+                style = style.clickEvent(adventure5Compat.mapClickEventValue(style.clickEvent(), (old) -> value));
+            }
+            if (insertion != null) {
+                style = style.insertion(insertion.render(values));
+            }
+            if (hoverText != null) {
+                style = style.hoverEvent(HoverEvent.showText(hoverText.render(values)));
+            }
+            List<Component> renderedChildren;
+            if (children == null) {
+                renderedChildren = original.children();
+            } else {
+                renderedChildren = new ArrayList<>(children.length);
+                for (Node child : children) {
+                    renderedChildren.add(child.render(values));
+                }
+            }
+            if (original instanceof TextComponent) {
+                String renderedContent = (content == null) ?
+                        ((TextComponent) original).content() : content.render(values);
+                return Component.text().content(renderedContent).style(style).append(renderedChildren).build();
+            }
+            return original.style(style).children(renderedChildren);
+        }
+    }
+
+    private static final class Compiler {
+
+        private final MultiPatternMatcher matcher;
+        private final Adventure5Compat adventure5Compat;
+
+        Compiler(Set<String> placeholders, Adventure5Compat adventure5Compat) {
+            matcher = new MultiPatternMatcher(placeholders);
+            this.adventure5Compat = adventure5Compat;
+        }
+
+        Node compile(Component component, Set<TextGoal> goals, Set<TextGoal> hoverGoals) {
+            TemplateText content = null;
+            if (goals.contains(TextGoal.SIMPLE_TEXT) && component instanceof TextComponent) {
+                content = compileText(((TextComponent) component).content());
+            }
+            TemplateText clickValue = null;
+            ClickEvent clickEvent = component.clickEvent();
+            if (goals.contains(TextGoal.CLICK_VALUE)
+                    && clickEvent != null && clickEvent.action() != ClickEvent.Action.CHANGE_PAGE) {
+                clickValue = compileText(adventure5Compat.clickEventValue(clickEvent));
+            }
+            TemplateText insertion = null;
+            String insertionValue = component.insertion();
+            if (goals.contains(TextGoal.INSERTION_VALUE) && insertionValue != null) {
+                insertion = compileText(insertionValue);
+            }
+            Node hoverText = null;
+            HoverEvent<?> hoverEvent = component.hoverEvent();
+            if (goals.contains(TextGoal.HOVER_TEXT)
+                    && hoverEvent != null && hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) {
+                Node hoverNode = compile((Component) hoverEvent.value(), hoverGoals, hoverGoals);
+                if (!(hoverNode instanceof ConstantNode)) {
+                    hoverText = hoverNode;
+                }
+            }
+            List<Component> childComponents = component.children();
+            Node[] children = new Node[childComponents.size()];
+            boolean anyChildTemplated = false;
+            for (int n = 0; n < children.length; n++) {
+                Node child = compile(childComponents.get(n), goals, hoverGoals);
+                anyChildTemplated |= !(child instanceof ConstantNode);
+                children[n] = child;
+            }
+            if (content == null && clickValue == null && insertion == null && hoverText == null
+                    && !anyChildTemplated) {
+                return new ConstantNode(component);
+            }
+            return new TemplateNode(
+                    component, adventure5Compat, content, clickValue, insertion, hoverText,
+                    (anyChildTemplated) ? children : null);
+        }
+
+        /**
+         * Splits text into literals and placeholders
+         *
+         * @param text the text
+         * @return the template text, or null if the text contains no placeholders
+         */
+        private TemplateText compileText(String text) {
+            MultiPatternMatcher.Match match = matcher.find(text, 0);
+            if (match == null) {
+                return null;
+            }
+            List<String> literals = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            int position = 0;
+            do {
+                literals.add(text.substring(position, match.start()));
+                slots.add(match.pattern());
+                position = match.end();
+            } while ((match = matcher.find(text, position)) != null);
+            literals.add(text.substring(position));
+            return new TemplateText(literals.toArray(String[]::new), slots.toArray(String[]::new));
+        }
+    }
+
+    /**
+     * Text with placeholders. There is always one more literal than there are slots,
+     * and the literals surround the slots.
+     */
+    private static final class TemplateText {
+
+        private final String[] literals;
+        private final String[] slots;
+
+        TemplateText(String[] literals, String[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        String render(Map<String, ? extends CharSequence> values) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(literals[0]);
+            for (int n = 0; n < slots.length; n++) {
+                String slot = slots[n];
+                CharSequence value = values.get(slot);
+                builder.append((value == null) ? slot : value);
+                builder.append(literals[n + 1]);
+            }
+            return builder.toString();
+        }
+    }
+
+}
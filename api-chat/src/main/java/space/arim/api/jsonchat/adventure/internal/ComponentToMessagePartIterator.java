@@ -29,15 +29,14 @@ import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public final class ComponentToMessagePartIterator extends IteratorBase<ChatMessagePart> {
 
     private final Adventure5Compat adventure5Compat;
-    private final PeekingIterator<Component> componentIterator;
+    private final PeekingIterator<StyledComponent> componentIterator;
     private final FormattingSerializer formattingSerializer;
 
-    public ComponentToMessagePartIterator(Adventure5Compat adventure5Compat, PeekingIterator<Component> componentIterator,
+    public ComponentToMessagePartIterator(Adventure5Compat adventure5Compat, PeekingIterator<StyledComponent> componentIterator,
                                           FormattingSerializer formattingSerializer) {
         this.adventure5Compat = adventure5Compat;
         this.componentIterator = componentIterator;
@@ -49,27 +48,26 @@ public final class ComponentToMessagePartIterator extends IteratorBase<ChatMessa
         if (!componentIterator.hasNext()) {
             return null;
         }
-        Component firstComponent = componentIterator.next();
+        StyledComponent firstComponent = componentIterator.next();
         HoverEvent<?> currentHover = firstComponent.hoverEvent();
         ClickEvent currentClick = firstComponent.clickEvent();
         String currentInsertion = firstComponent.insertion();
 
         List<Component> componentsWithSameEvents = new ArrayList<>();
-        componentsWithSameEvents.add(firstComponent);
+        componentsWithSameEvents.add(firstComponent.materialize());
 
         while (true) {
             if (!componentIterator.hasNext()) {
                 break;
             }
-            Component nextComponent = componentIterator.peek();
-            if (!Objects.equals(currentHover, nextComponent.hoverEvent())
-                    || !Objects.equals(currentClick, nextComponent.clickEvent())
-                    || !Objects.equals(currentInsertion, nextComponent.insertion())) {
+            StyledComponent nextComponent = componentIterator.peek();
+            if (!EventEquality.sameEvents(currentHover, currentClick, currentInsertion,
+                    nextComponent.hoverEvent(), nextComponent.clickEvent(), nextComponent.insertion())) {
                 // Stop here. Don't consume this Component
                 break;
             }
             componentIterator.next();
-            componentsWithSameEvents.add(nextComponent);
+            componentsWithSameEvents.add(nextComponent.materialize());
         }
         return new ChatMessagePart.Builder()
                 .associatedHoverEvent(convertHover(currentHover))
@@ -0,0 +1,97 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Compares the events of adjacent components, to decide whether they belong in the same
+ * message part. <br>
+ * <br>
+ * Events are compared by identity first, which suffices in the common case where adjacent
+ * components share the same event instance. Otherwise, they are compared with {@code equals}.
+ * Hover events are not compared by hash beforehand, because their hashes are not cached, so
+ * hashing would traverse their component trees as much as {@code equals} does.
+ *
+ */
+public final class EventEquality {
+
+    private EventEquality() {}
+
+    /**
+     * Determines whether two sets of events are the same
+     *
+     * @param hover the first hover event
+     * @param click the first click event
+     * @param insertion the first insertion
+     * @param otherHover the second hover event
+     * @param otherClick the second click event
+     * @param otherInsertion the second insertion
+     * @return true if each event is equal to its counterpart
+     */
+    public static boolean sameEvents(@Nullable HoverEvent<?> hover, @Nullable ClickEvent click, @Nullable String insertion,
+                                     @Nullable HoverEvent<?> otherHover, @Nullable ClickEvent otherClick,
+                                     @Nullable String otherInsertion) {
+        // Cheapest comparisons first
+        return sameInsertion(insertion, otherInsertion)
+                && sameClick(click, otherClick)
+                && sameHover(hover, otherHover);
+    }
+
+    /**
+     * Determines whether two hover events are equal
+     *
+     * @param hover the first hover event
+     * @param otherHover the second hover event
+     * @return true if equal
+     */
+    public static boolean sameHover(@Nullable HoverEvent<?> hover, @Nullable HoverEvent<?> otherHover) {
+        if (hover == otherHover) {
+            return true;
+        }
+        if (hover == null || otherHover == null) {
+            return false;
+        }
+        return hover.equals(otherHover);
+    }
+
+    /**
+     * Determines whether two click events are equal
+     *
+     * @param click the first click event
+     * @param otherClick the second click event
+     * @return true if equal
+     */
+    public static boolean sameClick(@Nullable ClickEvent click, @Nullable ClickEvent otherClick) {
+        return click == otherClick || click != null && click.equals(otherClick);
+    }
+
+    /**
+     * Determines whether two insertions are equal
+     *
+     * @param insertion the first insertion
+     * @param otherInsertion the second insertion
+     * @return true if equal
+     */
+    public static boolean sameInsertion(@Nullable String insertion, @Nullable String otherInsertion) {
+        return insertion == otherInsertion || insertion != null && insertion.equals(otherInsertion);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A small, bounded, least recently used cache. Thread safe. <br>
+ * <br>
+ * Values are computed outside of the lock, so concurrent misses for the same key
+ * may compute the value more than once. This is acceptable for caching immutable values.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, V> map;
+
+    /**
+     * Creates the cache
+     *
+     * @param maximumSize the maximum amount of entries, must be positive
+     */
+    public LruCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached value or computes and caches it
+     *
+     * @param key the key
+     * @param computer computes the value if not cached
+     * @return the value
+     */
+    public V get(K key, Function<? super K, ? extends V> computer) {
+        V value;
+        synchronized (map) {
+            value = map.get(key);
+        }
+        if (value != null) {
+            return value;
+        }
+        value = computer.apply(key);
+        synchronized (map) {
+            V existing = map.putIfAbsent(key, value);
+            return (existing != null) ? existing : value;
+        }
+    }
+
+    /**
+     * Gets the amount of cached entries
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+}
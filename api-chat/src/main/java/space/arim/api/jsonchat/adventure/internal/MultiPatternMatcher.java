@@ -0,0 +1,243 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Finds occurrences of any of several literal patterns in a single scan of the text,
+ * using an Aho-Corasick automaton. Matches do not overlap; where patterns overlap, the
+ * leftmost and then the longest is used. <br>
+ * <br>
+ * Immutable and thread safe.
+ *
+ */
+public final class MultiPatternMatcher {
+
+    private static final int ROOT = 0;
+
+    /** The characters of each node's outgoing edges, sorted */
+    private final char[][] edgeCharacters;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    /** The length of the text leading to each node */
+    private final int[] depth;
+    /** For each node, the longest pattern which is a suffix of the text leading to it, or null */
+    private final String[] longestOutput;
+
+    /**
+     * Builds the automaton
+     *
+     * @param patterns the patterns to match, none of which may be empty
+     * @throws IllegalArgumentException if any pattern is empty
+     */
+    public MultiPatternMatcher(Collection<String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<String> terminals = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(null);
+        depths.add(0);
+        for (String pattern : patterns) {
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Patterns must not be empty");
+            }
+            int node = ROOT;
+            for (int n = 0; n < pattern.length(); n++) {
+                Integer next = trie.get(node).get(pattern.charAt(n));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminals.add(null);
+                    depths.add(n + 1);
+                    trie.get(node).put(pattern.charAt(n), next);
+                }
+                node = next;
+            }
+            terminals.set(node, pattern);
+        }
+        int nodeCount = trie.size();
+        edgeCharacters = new char[nodeCount][];
+        edgeTargets = new int[nodeCount][];
+        depth = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            char[] characters = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int n = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                characters[n] = edge.getKey();
+                targets[n] = edge.getValue();
+                n++;
+            }
+            edgeCharacters[node] = characters;
+            edgeTargets[node] = targets;
+            depth[node] = depths.get(node);
+        }
+        // Breadth first, so that failure links always point to already processed nodes
+        failure = new int[nodeCount];
+        longestOutput = new String[nodeCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int node = queue.remove();
+            char[] characters = edgeCharacters[node];
+            int[] targets = edgeTargets[node];
+            for (int n = 0; n < characters.length; n++) {
+                int target = targets[n];
+                int targetFailure = ROOT;
+                if (node != ROOT) {
+                    int fallback = failure[node];
+                    int next;
+                    while ((next = transition(fallback, characters[n])) == -1 && fallback != ROOT) {
+                        fallback = failure[fallback];
+                    }
+                    if (next != -1) {
+                        targetFailure = next;
+                    }
+                }
+                failure[target] = targetFailure;
+                String terminal = terminals.get(target);
+                longestOutput[target] = (terminal != null) ? terminal : longestOutput[targetFailure];
+                queue.add(target);
+            }
+        }
+    }
+
+    private int transition(int node, char character) {
+        char[] characters = edgeCharacters[node];
+        int low = 0;
+        int high = characters.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char middleCharacter = characters[middle];
+            if (middleCharacter < character) {
+                low = middle + 1;
+            } else if (middleCharacter > character) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[node][middle];
+            }
+        }
+        return -1;
+    }
+
+    private int step(int node, char character) {
+        while (true) {
+            int next = transition(node, character);
+            if (next != -1) {
+                return next;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failure[node];
+        }
+    }
+
+    /**
+     * Finds the leftmost, then longest, match beginning at or after the given index
+     *
+     * @param text the text to search
+     * @param fromIndex the index from which to search
+     * @return the match, or null if there is none
+     */
+    public @Nullable Match find(CharSequence text, int fromIndex) {
+        int length = text.length();
+        int node = ROOT;
+        int matchStart = -1;
+        String matchPattern = null;
+        for (int index = fromIndex; index < length; index++) {
+            node = step(node, text.charAt(index));
+            String output = longestOutput[node];
+            if (output != null) {
+                int start = index + 1 - output.length();
+                // A later output with the same start is necessarily longer
+                if (matchPattern == null || start <= matchStart) {
+                    matchStart = start;
+                    matchPattern = output;
+                }
+            }
+            // Any later match must start within the text leading to the current node
+            if (matchPattern != null && matchStart < index + 1 - depth[node]) {
+                break;
+            }
+        }
+        return (matchPattern == null) ? null : new Match(matchStart, matchPattern);
+    }
+
+    /**
+     * Replaces every match in the given text
+     *
+     * @param text the text
+     * @param replacements the replacement for each pattern. If it yields null, the
+     *                     match is left as it is
+     * @return the resulting text, which is the same instance if nothing was replaced
+     */
+    public String replaceAll(String text, Function<? super String, ? extends CharSequence> replacements) {
+        StringBuilder builder = null;
+        int lastEnd = 0;
+        Match match;
+        int fromIndex = 0;
+        while ((match = find(text, fromIndex)) != null) {
+            fromIndex = match.end();
+            CharSequence replacement = replacements.apply(match.pattern());
+            if (replacement == null) {
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(text.length() + 16);
+            }
+            builder.append(text, lastEnd, match.start()).append(replacement);
+            lastEnd = fromIndex;
+        }
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, lastEnd, text.length()).toString();
+    }
+
+    /**
+     * A single match
+     *
+     * @param start the index at which the match begins
+     * @param pattern the matched pattern
+     */
+    public record Match(int start, String pattern) {
+
+        /**
+         * The index after the end of the match
+         *
+         * @return the end index, exclusive
+         */
+        public int end() {
+            return start + pattern.length();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical {@code Style} instances with a color and a set of decorations, which are
+ * shared across threads. Decorations are described by a bitmask of {@link #decorationBit(TextDecoration)}.
+ * Each decoration in the mask is set to true, and every other decoration is unset. <br>
+ * <br>
+ * Styles for the 16 legacy colors are created in advance. Styles for other colors are
+ * cached as they are requested, up to a fixed limit, past which new styles are not cached.
+ *
+ */
+public final class StyleCache {
+
+    private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+    private static final int DECORATION_MASKS = 1 << DECORATIONS.length;
+    private static final int MAXIMUM_HEX_STYLES = 4096;
+
+    /** Indexed by legacy color index, then decoration mask */
+    private static final Style[] LEGACY_STYLES = new Style[16 * DECORATION_MASKS];
+    private static final Map<Integer, Style> HEX_STYLES = new ConcurrentHashMap<>();
+
+    static {
+        String legacyCodes = "0123456789abcdef";
+        for (int legacyIndex = 0; legacyIndex < 16; legacyIndex++) {
+            TextColor color = TextColor.color(ColorCodes.obtainColorFromCode(legacyCodes.charAt(legacyIndex)));
+            for (int decorationMask = 0; decorationMask < DECORATION_MASKS; decorationMask++) {
+                LEGACY_STYLES[legacyIndex * DECORATION_MASKS + decorationMask] = createStyle(color, decorationMask);
+            }
+        }
+    }
+
+    private StyleCache() {}
+
+    /**
+     * Gets the bit of a decoration in a decoration mask
+     *
+     * @param decoration the decoration
+     * @return the decoration bit
+     */
+    public static int decorationBit(TextDecoration decoration) {
+        return 1 << decoration.ordinal();
+    }
+
+    /**
+     * Gets the style for a legacy color
+     *
+     * @param legacyIndex the legacy color index, from 0 to 15, the value of the hex digit of the
+     *                    legacy color code
+     * @param decorationMask the decoration mask
+     * @return the canonical style
+     */
+    public static Style legacyStyle(int legacyIndex, int decorationMask) {
+        return LEGACY_STYLES[legacyIndex * DECORATION_MASKS + decorationMask];
+    }
+
+    /**
+     * Gets the style for any color
+     *
+     * @param color the RGB color
+     * @param decorationMask the decoration mask
+     * @return the style, canonical unless the cache is full
+     */
+    public static Style style(int color, int decorationMask) {
+        // 24 bits of color and 5 bits of decorations fit together in an int
+        Integer key = ((color & 0xFFFFFF) << DECORATIONS.length) | decorationMask;
+        Style style = HEX_STYLES.get(key);
+        if (style != null) {
+            return style;
+        }
+        style = createStyle(TextColor.color(color), decorationMask);
+        if (HEX_STYLES.size() >= MAXIMUM_HEX_STYLES) {
+            return style;
+        }
+        Style existing = HEX_STYLES.putIfAbsent(key, style);
+        return (existing != null) ? existing : style;
+    }
+
+    private static Style createStyle(TextColor color, int decorationMask) {
+        Style.Builder builder = Style.style().color(color);
+        for (TextDecoration decoration : DECORATIONS) {
+            if ((decorationMask & decorationBit(decoration)) != 0) {
+                builder.decoration(decoration, true);
+            }
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.Objects;
+
+/**
+ * A view of a component together with the style it effectively has once
+ * inherited from its parents. The merged component is only created upon
+ * {@link #materialize()}, and not at all if the component's own style is
+ * already the effective style.
+ *
+ */
+public final class StyledComponent {
+
+    private final Component component;
+    private final Style effectiveStyle;
+
+    public StyledComponent(Component component, Style effectiveStyle) {
+        this.component = Objects.requireNonNull(component, "component");
+        this.effectiveStyle = Objects.requireNonNull(effectiveStyle, "effectiveStyle");
+    }
+
+    /**
+     * Creates a view of a component which has no parent
+     *
+     * @param component the component
+     * @return the view, whose effective style is the component's own
+     */
+    public static StyledComponent root(Component component) {
+        return new StyledComponent(component, component.style());
+    }
+
+    /**
+     * Creates a view of a child component, inheriting what is absent
+     * from the child's style from the parent's effective style
+     *
+     * @param child the child component
+     * @param parentStyle the effective style of the parent
+     * @return the view
+     */
+    static StyledComponent child(Component child, Style parentStyle) {
+        Style ownStyle = child.style();
+        Style effectiveStyle;
+        if (parentStyle.isEmpty()) {
+            effectiveStyle = ownStyle;
+        } else if (ownStyle.isEmpty()) {
+            effectiveStyle = parentStyle;
+        } else {
+            effectiveStyle = ownStyle.merge(parentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        }
+        return new StyledComponent(child, effectiveStyle);
+    }
+
+    /**
+     * The underlying component, whose style does not include inherited information
+     *
+     * @return the underlying component
+     */
+    public Component component() {
+        return component;
+    }
+
+    public Style effectiveStyle() {
+        return effectiveStyle;
+    }
+
+    public HoverEvent<?> hoverEvent() {
+        return effectiveStyle.hoverEvent();
+    }
+
+    public ClickEvent clickEvent() {
+        return effectiveStyle.clickEvent();
+    }
+
+    public String insertion() {
+        return effectiveStyle.insertion();
+    }
+
+    /**
+     * Obtains the component with its effective style applied. Allocates
+     * only if the effective style differs from the component's own
+     *
+     * @return the component with the effective style
+     */
+    public Component materialize() {
+        if (effectiveStyle == component.style()) {
+            return component;
+        }
+        return component.style(effectiveStyle);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof StyledComponent)) {
+            return false;
+        }
+        StyledComponent that = (StyledComponent) object;
+        return component.equals(that.component) && effectiveStyle.equals(that.effectiveStyle);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * component.hashCode() + effectiveStyle.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StyledComponent{" +
+                "component=" + component +
+                ", effectiveStyle=" + effectiveStyle +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Iterates over a component tree in depth-first order, yielding each component
+ * as a {@link StyledComponent}. Inherited style is carried as the parent's
+ * effective style and merged into a child only where the child lacks it,
+ * so no component is rebuilt during iteration. <br>
+ * <br>
+ * Traversal uses a single explicit stack of frames, each holding a list of
+ * siblings, the position within it, and the effective style of their parent.
+ * Each call to {@code next} is therefore amortized constant time regardless
+ * of how deeply the tree is nested.
+ *
+ */
+public final class StyledComponentIterator extends IteratorBase<StyledComponent> {
+
+    private List<Component>[] frameComponents;
+    private int[] framePositions;
+    /** The parent's effective style, or {@code null} for the root frame */
+    private Style[] frameParentStyles;
+    private int depth;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    @SuppressWarnings("unchecked")
+    private StyledComponentIterator(List<Component> components) {
+        frameComponents = (List<Component>[]) new List<?>[INITIAL_CAPACITY];
+        framePositions = new int[INITIAL_CAPACITY];
+        frameParentStyles = new Style[INITIAL_CAPACITY];
+        push(components, null);
+    }
+
+    public StyledComponentIterator(Component...components) {
+        this(Arrays.asList(components));
+    }
+
+    public StyledComponentIterator(Component component) {
+        this(List.of(component));
+    }
+
+    private void push(List<Component> components, Style parentStyle) {
+        if (depth == frameComponents.length) {
+            int newCapacity = depth * 2;
+            frameComponents = Arrays.copyOf(frameComponents, newCapacity);
+            framePositions = Arrays.copyOf(framePositions, newCapacity);
+            frameParentStyles = Arrays.copyOf(frameParentStyles, newCapacity);
+        }
+        frameComponents[depth] = components;
+        framePositions[depth] = 0;
+        frameParentStyles[depth] = parentStyle;
+        depth++;
+    }
+
+    private void pop() {
+        depth--;
+        frameComponents[depth] = null;
+        frameParentStyles[depth] = null;
+    }
+
+    @Override
+    protected StyledComponent getNext() {
+        while (depth > 0) {
+            int top = depth - 1;
+            List<Component> components = frameComponents[top];
+            int position = framePositions[top];
+            if (position == components.size()) {
+                pop();
+                continue;
+            }
+            framePositions[top] = position + 1;
+            Component current = components.get(position);
+            Style parentStyle = frameParentStyles[top];
+            StyledComponent styled = (parentStyle == null) ?
+                    StyledComponent.root(current) : StyledComponent.child(current, parentStyle);
+
+            List<Component> children = current.children();
+            if (!children.isEmpty()) {
+                if (position + 1 == components.size()) {
+                    // Last sibling: its frame is finished, so the children may take its place
+                    pop();
+                }
+                push(children, styled.effectiveStyle());
+            }
+            return styled;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Maps the text of components through a function, as used by {@link ComponentText#replaceText(Function)}.
+ * Components whose text is unchanged are returned as the same instance, so that unchanged
+ * subtrees are shared between the source and mapped components. <br>
+ * <br>
+ * Optionally maps the children of wide components in parallel using a fork/join pool.
+ *
+ */
+final class ComponentMapper {
+
+    private final Adventure5Compat adventure5Compat;
+    private final Function<? super String, String> operator;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    ComponentMapper(Adventure5Compat adventure5Compat, Function<? super String, String> operator,
+                    ForkJoinPool pool, int parallelThreshold) {
+        this.adventure5Compat = adventure5Compat;
+        this.operator = operator;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    ComponentMapper(Adventure5Compat adventure5Compat, Function<? super String, String> operator) {
+        this(adventure5Compat, operator, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps a component. Most mappings change nothing, so nothing is allocated until the first
+     * change is detected. The builder is only created once a change is certain, and the
+     * children are copied on write.
+     *
+     * @param component the component
+     * @param goals the text goals, as a mask
+     * @return the mapped component, or the same component if nothing changed
+     */
+    Component map(Component component, int goals) {
+        String newContent = null;
+        if (TextGoals.contains(goals, TextGoals.SIMPLE_TEXT) && component instanceof TextComponent) {
+            String oldContent = ((TextComponent) component).content();
+            String mappedContent = operator.apply(oldContent);
+            //noinspection StringEquality
+            if (oldContent != mappedContent) { // Intentional reference equality
+                newContent = mappedContent;
+            }
+        }
+        Component newHover = null;
+        if (TextGoals.contains(goals, TextGoals.HOVER_TEXT)) {
+            HoverEvent<?> hoverEvent = component.hoverEvent();
+            Object hoverValue;
+            if (hoverEvent != null && (hoverValue = hoverEvent.value()) instanceof Component) {
+                Component oldHover = (Component) hoverValue;
+                Component mappedHover = map(oldHover, TextGoals.SIMPLE_TEXT);
+                if (oldHover != mappedHover) {
+                    newHover = mappedHover;
+                }
+            }
+        }
+        ClickEvent newClick = null;
+        if (TextGoals.contains(goals, TextGoals.CLICK_VALUE)) {
+            ClickEvent oldClick = component.clickEvent();
+            if (oldClick != null) {
+                ClickEvent mappedClick = adventure5Compat.mapClickEventValue(oldClick, operator);
+                if (oldClick != mappedClick) {
+                    newClick = mappedClick;
+                }
+            }
+        }
+        String newInsert = null;
+        if (TextGoals.contains(goals, TextGoals.INSERTION_VALUE)) {
+            String oldInsert = component.insertion();
+            if (oldInsert != null) {
+                String mappedInsert = operator.apply(oldInsert);
+                //noinspection StringEquality
+                if (oldInsert != mappedInsert) {
+                    newInsert = mappedInsert;
+                }
+            }
+        }
+
+        List<Component> oldChildren = component.children();
+        List<Component> newChildren;
+        if (oldChildren.size() >= parallelThreshold) {
+            newChildren = mapChildrenInParallel(oldChildren, goals);
+        } else {
+            newChildren = null;
+            for (int n = 0; n < oldChildren.size(); n++) {
+                Component oldChild = oldChildren.get(n);
+                Component newChild = map(oldChild, goals);
+                if (oldChild != newChild) {
+                    if (newChildren == null) {
+                        newChildren = new ArrayList<>(oldChildren);
+                    }
+                    newChildren.set(n, newChild);
+                }
+            }
+        }
+        if (newContent == null && newHover == null && newClick == null && newInsert == null) {
+            return (newChildren == null) ? component : component.children(newChildren);
+        }
+
+        ComponentBuilder<?, ?> builder;
+        if (component instanceof TextComponent) {
+            TextComponent.Builder textBuilder = ((TextComponent) component).toBuilder();
+            if (newContent != null) {
+                textBuilder.content(newContent);
+            }
+            builder = textBuilder;
+        } else {
+            builder = adventure5Compat.toBuilder(component);
+            if (builder == null) {
+                builder = Component.text().style(component.style()).append(component.children());
+            }
+        }
+        if (newHover != null) {
+            builder.hoverEvent(HoverEvent.showText(newHover));
+        }
+        if (newClick != null) {
+            builder.clickEvent(newClick);
+        }
+        if (newInsert != null) {
+            builder.insertion(newInsert);
+        }
+        Component built = builder.build();
+        if (newChildren == null) {
+            return built;
+        }
+        return built.children(newChildren);
+    }
+
+    private List<Component> mapChildrenInParallel(List<Component> oldChildren, int goals) {
+        Component[] results = new Component[oldChildren.size()];
+        MapChildrenTask task = new MapChildrenTask(oldChildren, goals, results, 0, results.length);
+        boolean changed = (ForkJoinTask.getPool() == pool) ? task.invoke() : pool.invoke(task);
+        return (changed) ? Arrays.asList(results) : null;
+    }
+
+    /**
+     * Maps a range of children into the corresponding range of the results array.
+     * Yields whether any child in the range changed.
+     */
+    private final class MapChildrenTask extends RecursiveTask<Boolean> {
+
+        private final List<Component> children;
+        private final int goals;
+        private final Component[] results;
+        private final int from;
+        private final int to;
+
+        MapChildrenTask(List<Component> children, int goals, Component[] results, int from, int to) {
+            this.children = children;
+            this.goals = goals;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Boolean compute() {
+            int length = to - from;
+            if (length < parallelThreshold || length == 1) {
+                boolean changed = false;
+                for (int n = from; n < to; n++) {
+                    Component oldChild = children.get(n);
+                    Component newChild = map(oldChild, goals);
+                    changed |= oldChild != newChild;
+                    results[n] = newChild;
+                }
+                return changed;
+            }
+            int middle = from + (length >>> 1);
+            MapChildrenTask left = new MapChildrenTask(children, goals, results, from, middle);
+            MapChildrenTask right = new MapChildrenTask(children, goals, results, middle, to);
+            left.fork();
+            boolean rightChanged = right.compute();
+            return left.join() | rightChanged;
+        }
+    }
+}
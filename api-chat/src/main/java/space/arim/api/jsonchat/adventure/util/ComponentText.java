@@ -20,27 +20,20 @@
 package space.arim.api.jsonchat.adventure.util;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.ComponentBuilder;
 import net.kyori.adventure.text.ComponentLike;
-import net.kyori.adventure.text.TextComponent;
-import net.kyori.adventure.text.event.ClickEvent;
-import net.kyori.adventure.text.event.HoverEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
-import space.arim.api.jsonchat.adventure.internal.ComponentIterator;
+import space.arim.api.jsonchat.adventure.internal.ComponentTemplate;
+import space.arim.api.jsonchat.adventure.internal.MultiPatternMatcher;
+import space.arim.api.jsonchat.adventure.internal.StyledComponentIterator;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
-import static space.arim.api.jsonchat.adventure.util.TextGoal.CLICK_VALUE;
-import static space.arim.api.jsonchat.adventure.util.TextGoal.HOVER_TEXT;
-import static space.arim.api.jsonchat.adventure.util.TextGoal.INSERTION_VALUE;
-import static space.arim.api.jsonchat.adventure.util.TextGoal.SIMPLE_TEXT;
-
 /**
  * Manipulator class for transforming and analyzing text in components. <br>
  * <br>
@@ -57,11 +50,16 @@ public final class ComponentText implements ComponentLike {
 
     private final Component component;
     private final Set<TextGoal> goals;
+    private final int goalMask;
     private final Adventure5Compat adventure5Compat;
 
+    /** Lazily computed */
+    private volatile ComponentTextStats stats;
+
     private ComponentText(Component component, Set<TextGoal> goals, Adventure5Compat adventure5Compat) {
         this.component = Objects.requireNonNull(component, "component");
         this.goals = Set.copyOf(goals);
+        goalMask = TextGoals.mask(this.goals);
         this.adventure5Compat = Objects.requireNonNull(adventure5Compat, "adventure5Compat");
     }
 
@@ -108,18 +106,36 @@ public final class ComponentText implements ComponentLike {
         return component;
     }
 
+    private ComponentTextStats stats() {
+        ComponentTextStats stats = this.stats;
+        if (stats == null) {
+            // Benign race: the statistics are immutable and always computed identically
+            this.stats = stats = ComponentTextStats.compute(component, goalMask, adventure5Compat);
+        }
+        return stats;
+    }
+
     /**
-     * Sums the length of the text in the component
+     * Sums the length of the text in the component. <br>
+     * <br>
+     * The text statistics are computed once, after which this operation is constant time
      *
      * @return the sum of the lengths of text
      */
     public int sumLength() {
-        int sum = 0;
-        for (Iterator<String> iter = iter(); iter.hasNext(); ) {
-            String next = iter.next();
-            sum += next.length();
-        }
-        return sum;
+        return stats().totalLength();
+    }
+
+    /**
+     * Sums the length of the text in the component matching a specific goal
+     *
+     * @param goal the text goal
+     * @return the sum of the lengths of text for the goal, or 0 if the goal is not among
+     * the goals of this component text
+     */
+    public int sumLength(TextGoal goal) {
+        Objects.requireNonNull(goal, "goal");
+        return stats().length(goal);
     }
 
     /**
@@ -128,12 +144,7 @@ public final class ComponentText implements ComponentLike {
      * @return whether the text in the component is empty
      */
     public boolean isEmpty() {
-        for (Iterator<String> iter = iter(); iter.hasNext(); ) {
-            if (!iter.next().isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+        return stats().totalLength() == 0;
     }
 
     /**
@@ -144,18 +155,12 @@ public final class ComponentText implements ComponentLike {
      */
     public boolean contains(String text) {
         Objects.requireNonNull(text, "text");
-        for (Iterator<String> iter = iter(); iter.hasNext(); ) {
-            String next = iter.next();
-            if (next.contains(text)) {
-                return true;
-            }
-        }
-        return false;
+        return stats().contains(text);
     }
 
     // Visible for testing
     Iterator<String> iter() {
-        return new ComponentTextIterator(adventure5Compat, new ComponentIterator(component), goals);
+        return new ComponentTextIterator(adventure5Compat, new StyledComponentIterator(component), goalMask);
     }
 
     /**
@@ -186,6 +191,44 @@ public final class ComponentText implements ComponentLike {
         return replaceText((str) -> regex.matcher(str).replaceAll(replacementValue));
     }
 
+    /**
+     * Replaces all occurrences of each key of the given map with the corresponding value. <br>
+     * <br>
+     * All targets are replaced simultaneously, in a single traversal of the component and a
+     * single scan of each text. Unlike repeated calls to {@link #replaceText(CharSequence, CharSequence)},
+     * replacement values are therefore never themselves subject to replacement. Where targets
+     * overlap, the leftmost and then the longest is replaced.
+     *
+     * @param replacements the replacement values, keyed by the text to literally match
+     * @return the new component text
+     * @throws IllegalArgumentException if any target is empty
+     */
+    public ComponentText replaceAll(Map<String, ? extends CharSequence> replacements) {
+        Objects.requireNonNull(replacements, "replacements");
+        Map<String, ? extends CharSequence> values = Map.copyOf(replacements);
+        if (values.isEmpty()) {
+            return this;
+        }
+        MultiPatternMatcher matcher = new MultiPatternMatcher(values.keySet());
+        return replaceText((str) -> matcher.replaceAll(str, values::get));
+    }
+
+    /**
+     * Compiles a replacement of the given placeholders, which may then be applied many
+     * times with different values. Where the same component text is repeatedly rendered
+     * with different values, this avoids traversing the whole component each time.
+     *
+     * @param placeholders the placeholders to replace
+     * @return the compiled replacement
+     * @throws IllegalArgumentException if any placeholder is empty
+     */
+    public ReplacementPlan compile(Set<String> placeholders) {
+        Set<String> placeholderSet = Set.copyOf(placeholders);
+        ComponentTemplate template = ComponentTemplate.compile(
+                component, placeholderSet, goals, TextGoal.simpleTextOnly(), adventure5Compat);
+        return new ReplacementPlan(this, placeholderSet, template);
+    }
+
     /**
      * Replaces all text in the source component using the given function. <br>
      * <br>
@@ -197,94 +240,45 @@ public final class ComponentText implements ComponentLike {
      */
     public ComponentText replaceText(Function<? super String, String> operator) {
         Objects.requireNonNull(operator, "operator");
-        return new ComponentText(
-                mapComponent(component, adventure5Compat, operator, goals),
-                goals,
-                adventure5Compat
-        );
+        return replaceText(new ComponentMapper(adventure5Compat, operator));
     }
 
-    private static Component mapComponent(Component component, Adventure5Compat adventure5Compat,
-                                          Function<? super String, String> operator, Set<TextGoal> goals) {
-        boolean changed = false;
-        ComponentBuilder<?, ?> builder;
-        if (component instanceof TextComponent) {
-            TextComponent.Builder textBuilder = ((TextComponent) component).toBuilder();
-            if (goals.contains(SIMPLE_TEXT)) {
-                String oldContent = textBuilder.content();
-                String newContent = operator.apply(oldContent);
-                //noinspection StringEquality
-                if (oldContent != newContent) { // Intentional reference equality
-                    changed = true;
-                    textBuilder.content(newContent);
-                }
-            }
-            builder = textBuilder;
-        } else {
-            builder = adventure5Compat.toBuilder(component);
-            if (builder == null) {
-                builder = Component.text().style(component.style()).append(component.children());
-            }
-        }
-        if (goals.contains(HOVER_TEXT)) {
-            HoverEvent<?> hoverEvent = component.hoverEvent();
-            Object hoverValue;
-            if (hoverEvent != null && (hoverValue = hoverEvent.value()) instanceof Component) {
-                Component oldHover = (Component) hoverValue;
-                Component newHover = mapComponent(oldHover, adventure5Compat, operator, TextGoal.simpleTextOnly());
-                if (oldHover != newHover) {
-                    changed = true;
-                    builder.hoverEvent(HoverEvent.showText(newHover));
-                }
-            }
-        }
-        if (goals.contains(CLICK_VALUE)) {
-            ClickEvent oldClick = component.clickEvent();
-            if (oldClick != null) {
-                ClickEvent newClick = adventure5Compat.mapClickEventValue(oldClick, operator);
-                if (oldClick != newClick) {
-                    changed = true;
-                    builder.clickEvent(newClick);
-                }
-            }
-        }
-        if (goals.contains(INSERTION_VALUE)) {
-            String oldInsert = component.insertion();
-            if (oldInsert != null) {
-                String newInsert = operator.apply(oldInsert);
-                //noinspection StringEquality
-                if (oldInsert != newInsert) {
-                    changed = true;
-                    builder.insertion(newInsert);
-                }
-            }
+    /**
+     * Replaces all text in the source component using the given function, mapping wide
+     * components in parallel. <br>
+     * <br>
+     * Where a component has at least {@code parallelThreshold} children, its children are
+     * split into fork/join tasks executed in the given pool. Otherwise, this behaves exactly
+     * as {@link #replaceText(Function)}, and components whose text is unchanged are likewise
+     * shared with the source component. <br>
+     * <br>
+     * The function may be called concurrently and must be thread safe. Parallelism pays off
+     * only for components with thousands of children.
+     *
+     * @param operator the function to run all text through, which must be thread safe
+     * @param pool the fork/join pool in which to run tasks
+     * @param parallelThreshold the minimum amount of children of a component for which
+     *                          its children are mapped in parallel. Must be positive
+     * @return the new component
+     * @throws IllegalArgumentException if the parallel threshold is not positive
+     */
+    public ComponentText replaceText(Function<? super String, String> operator,
+                                     ForkJoinPool pool, int parallelThreshold) {
+        Objects.requireNonNull(operator, "operator");
+        Objects.requireNonNull(pool, "pool");
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
         }
+        return replaceText(new ComponentMapper(adventure5Compat, operator, pool, parallelThreshold));
+    }
 
-        List<Component> oldChildren = component.children();
-        List<Component> newChildren = new ArrayList<>(oldChildren.size());
-        {
-            boolean changedChildren = false;
-            for (Component oldChild : oldChildren) {
-                Component newChild = mapComponent(oldChild, adventure5Compat, operator, goals);
-                if (oldChild != newChild) {
-                    changedChildren = true;
-                }
-                newChildren.add(newChild);
-            }
-            if (changedChildren) {
-                changed = true;
-            } else {
-                newChildren = oldChildren;
-            }
-        }
-        if (!changed) {
-            return component;
-        }
-        Component built = builder.build();
-        if (newChildren == oldChildren) {
-            return built;
-        }
-        return built.children(newChildren);
+    private ComponentText replaceText(ComponentMapper mapper) {
+        Component mapped = mapper.map(component, goalMask);
+        return (mapped == component) ? this : withComponent(mapped);
+    }
+
+    ComponentText withComponent(Component component) {
+        return new ComponentText(component, goals, adventure5Compat);
     }
 
     @Override
@@ -23,22 +23,22 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
-import space.arim.api.jsonchat.adventure.internal.ComponentIterator;
 import space.arim.api.jsonchat.adventure.internal.IteratorBase;
+import space.arim.api.jsonchat.adventure.internal.StyledComponent;
+import space.arim.api.jsonchat.adventure.internal.StyledComponentIterator;
 
 import java.util.Iterator;
 import java.util.Objects;
-import java.util.Set;
 
 final class ComponentTextIterator extends IteratorBase<String> {
 
     private final Adventure5Compat adventure5Compat;
-    private final Iterator<Component> delegate;
-    private final Set<TextGoal> goals;
+    private final Iterator<StyledComponent> delegate;
+    private final int goals;
 
     /** Used to traverse hover events */
     private Iterator<String> childIterator;
-    private Component current;
+    private StyledComponent current;
     private int positionOnCurrent;
 
     private static final int CONTENT = 0;
@@ -46,10 +46,10 @@ final class ComponentTextIterator extends IteratorBase<String> {
     private static final int CLICK_VALUE = 2;
     private static final int INSERTION_VALUE = 3;
 
-    ComponentTextIterator(Adventure5Compat adventure5Compat, Iterator<Component> delegate, Set<TextGoal> goals) {
+    ComponentTextIterator(Adventure5Compat adventure5Compat, Iterator<StyledComponent> delegate, int goals) {
         this.adventure5Compat = adventure5Compat;
         this.delegate = Objects.requireNonNull(delegate);
-        this.goals = Set.copyOf(goals);
+        this.goals = goals;
     }
 
     @Override
@@ -72,16 +72,20 @@ final class ComponentTextIterator extends IteratorBase<String> {
             int position = positionOnCurrent++;
             switch (position) {
             case CONTENT:
-                if (!goals.contains(TextGoal.SIMPLE_TEXT)) {
+                if (!TextGoals.contains(goals, TextGoals.EVENTS)) {
+                    // Skip the event slots entirely
+                    positionOnCurrent = INSERTION_VALUE;
+                }
+                if (!TextGoals.contains(goals, TextGoals.SIMPLE_TEXT)) {
                     continue;
                 }
-                if (!(current instanceof TextComponent)) {
+                if (!(current.component() instanceof TextComponent)) {
                     continue;
                 }
-                return ((TextComponent) current).content();
+                return ((TextComponent) current.component()).content();
 
             case HOVER_VALUE:
-                if (!goals.contains(TextGoal.HOVER_TEXT)) {
+                if (!TextGoals.contains(goals, TextGoals.HOVER_TEXT)) {
                     continue;
                 }
                 HoverEvent<?> hoverEvent = current.hoverEvent();
@@ -92,11 +96,11 @@ final class ComponentTextIterator extends IteratorBase<String> {
                 // Traverse this iterator next
                 childIterator = new ComponentTextIterator(
                         adventure5Compat,
-                        new ComponentIterator((Component) hoverValue), TextGoal.simpleTextOnly());
+                        new StyledComponentIterator((Component) hoverValue), TextGoals.SIMPLE_TEXT);
                 continue;
 
             case CLICK_VALUE:
-                if (!goals.contains(TextGoal.CLICK_VALUE)) {
+                if (!TextGoals.contains(goals, TextGoals.CLICK_VALUE)) {
                     continue;
                 }
                 ClickEvent clickEvent = current.clickEvent();
@@ -107,11 +111,11 @@ final class ComponentTextIterator extends IteratorBase<String> {
 
             case INSERTION_VALUE:
                 // The current component has been exhausted. Nullify and reset
-                Component current = this.current;
+                StyledComponent current = this.current;
                 this.current = null;
                 positionOnCurrent = CONTENT;
 
-                if (!goals.contains(TextGoal.INSERTION_VALUE)) {
+                if (!TextGoals.contains(goals, TextGoals.INSERTION_VALUE)) {
                     continue;
                 }
                 String insertion = current.insertion();
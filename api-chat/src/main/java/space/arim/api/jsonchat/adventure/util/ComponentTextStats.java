@@ -0,0 +1,174 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import space.arim.api.jsonchat.adventure.internal.StyledComponent;
+import space.arim.api.jsonchat.adventure.internal.StyledComponentIterator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Statistics about the text of a {@link ComponentText}, computed in a single traversal.
+ * Holds the total length of text per goal and a flattened view of all the text, in the
+ * same order as yielded by {@link ComponentTextIterator}. <br>
+ * <br>
+ * Immutable and thread safe.
+ *
+ */
+final class ComponentTextStats {
+
+    private final int[] lengthsByGoal;
+    private final int totalLength;
+    /** All text, concatenated */
+    private final String flattened;
+    /** The end index of each piece of text in the flattened text */
+    private final int[] pieceEnds;
+
+    private ComponentTextStats(int[] lengthsByGoal, String flattened, int[] pieceEnds) {
+        this.lengthsByGoal = lengthsByGoal;
+        this.flattened = flattened;
+        this.pieceEnds = pieceEnds;
+        int totalLength = 0;
+        for (int length : lengthsByGoal) {
+            totalLength += length;
+        }
+        this.totalLength = totalLength;
+    }
+
+    static ComponentTextStats compute(Component component, int goals, Adventure5Compat adventure5Compat) {
+        Collector collector = new Collector();
+        collector.collect(new StyledComponentIterator(component), goals, adventure5Compat);
+        return collector.build();
+    }
+
+    /**
+     * Gets the total length of the text for the given goal
+     *
+     * @param goal the text goal
+     * @return the total length, 0 if the goal is not used
+     */
+    int length(TextGoal goal) {
+        return lengthsByGoal[goal.ordinal()];
+    }
+
+    /**
+     * Gets the total length of all text
+     *
+     * @return the total length
+     */
+    int totalLength() {
+        return totalLength;
+    }
+
+    /**
+     * Determines whether a single piece of text contains the given text. Matches spanning
+     * the boundary between two pieces of text are not counted
+     *
+     * @param text the text to search for
+     * @return true if found within any piece of text
+     */
+    boolean contains(String text) {
+        if (pieceEnds.length == 0) {
+            return false;
+        }
+        int textLength = text.length();
+        int fromIndex = 0;
+        int pieceIndex = 0;
+        int index;
+        while ((index = flattened.indexOf(text, fromIndex)) != -1) {
+            // Advance to the piece in which the match starts. Matches are found in
+            // ascending order, so the piece index never needs to move backwards
+            while (pieceEnds[pieceIndex] < index
+                    || (pieceEnds[pieceIndex] == index && textLength != 0)) {
+                pieceIndex++;
+            }
+            if (index + textLength <= pieceEnds[pieceIndex]) {
+                return true;
+            }
+            // The match crosses into the next piece; no match in this piece can start later
+            fromIndex = pieceEnds[pieceIndex];
+        }
+        return false;
+    }
+
+    private static final class Collector {
+
+        private final int[] lengthsByGoal = new int[TextGoal.values().length];
+        private final StringBuilder flattened = new StringBuilder();
+        private int[] pieceEnds = new int[16];
+        private int pieceCount;
+
+        private void add(TextGoal goal, String text) {
+            lengthsByGoal[goal.ordinal()] += text.length();
+            flattened.append(text);
+            if (pieceCount == pieceEnds.length) {
+                pieceEnds = Arrays.copyOf(pieceEnds, pieceCount * 2);
+            }
+            pieceEnds[pieceCount++] = flattened.length();
+        }
+
+        private void collect(Iterator<StyledComponent> components, int goals,
+                             Adventure5Compat adventure5Compat) {
+            boolean simpleText = TextGoals.contains(goals, TextGoals.SIMPLE_TEXT);
+            boolean hoverText = TextGoals.contains(goals, TextGoals.HOVER_TEXT);
+            boolean clickValue = TextGoals.contains(goals, TextGoals.CLICK_VALUE);
+            boolean insertionValue = TextGoals.contains(goals, TextGoals.INSERTION_VALUE);
+            while (components.hasNext()) {
+                StyledComponent current = components.next();
+                if (simpleText && current.component() instanceof TextComponent) {
+                    add(TextGoal.SIMPLE_TEXT, ((TextComponent) current.component()).content());
+                }
+                HoverEvent<?> hoverEvent;
+                Object hoverValue;
+                if (hoverText && (hoverEvent = current.hoverEvent()) != null
+                        && (hoverValue = hoverEvent.value()) instanceof Component) {
+                    collectHover((Component) hoverValue);
+                }
+                ClickEvent clickEvent;
+                if (clickValue && (clickEvent = current.clickEvent()) != null) {
+                    add(TextGoal.CLICK_VALUE, adventure5Compat.clickEventValue(clickEvent));
+                }
+                String insertion;
+                if (insertionValue && (insertion = current.insertion()) != null) {
+                    add(TextGoal.INSERTION_VALUE, insertion);
+                }
+            }
+        }
+
+        private void collectHover(Component hoverValue) {
+            for (Iterator<StyledComponent> iter = new StyledComponentIterator(hoverValue); iter.hasNext(); ) {
+                Component hoverComponent = iter.next().component();
+                if (hoverComponent instanceof TextComponent) {
+                    add(TextGoal.HOVER_TEXT, ((TextComponent) hoverComponent).content());
+                }
+            }
+        }
+
+        private ComponentTextStats build() {
+            return new ComponentTextStats(
+                    lengthsByGoal, flattened.toString(), Arrays.copyOf(pieceEnds, pieceCount));
+        }
+    }
+}
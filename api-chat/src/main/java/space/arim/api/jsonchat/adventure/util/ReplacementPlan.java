@@ -0,0 +1,94 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.util;
+
+import net.kyori.adventure.text.Component;
+import space.arim.api.jsonchat.adventure.internal.ComponentTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A replacement of placeholders in a {@link ComponentText}, compiled in advance and applicable
+ * many times with different values. Obtained from {@link ComponentText#compile(Set)}. <br>
+ * <br>
+ * Compilation records which components, and which of their text goals, contain which
+ * placeholders. Applying values rebuilds only the components on the path to a placeholder,
+ * and every other component is shared by reference with the original. <br>
+ * <br>
+ * Instances are immutable and thread safe.
+ *
+ */
+public final class ReplacementPlan {
+
+    private final ComponentText source;
+    private final Set<String> placeholders;
+    private final ComponentTemplate template;
+
+    ReplacementPlan(ComponentText source, Set<String> placeholders, ComponentTemplate template) {
+        this.source = source;
+        this.placeholders = placeholders;
+        this.template = template;
+    }
+
+    /**
+     * Gets the component text from which this plan was compiled
+     *
+     * @return the source component text
+     */
+    public ComponentText source() {
+        return source;
+    }
+
+    /**
+     * Gets the placeholders this plan replaces
+     *
+     * @return the immutable set of placeholders
+     */
+    public Set<String> placeholders() {
+        return placeholders;
+    }
+
+    /**
+     * Replaces each placeholder with its value. Placeholders without a value in the map
+     * are left as they are. The result is the same as that of
+     * {@link ComponentText#replaceAll(Map)} with the same values.
+     *
+     * @param values the values of the placeholders, keyed by placeholder
+     * @return the new component text
+     */
+    public ComponentText apply(Map<String, ? extends CharSequence> values) {
+        Objects.requireNonNull(values, "values");
+        Component rendered = template.render(values);
+        if (rendered == source.asComponent()) {
+            return source;
+        }
+        return source.withComponent(rendered);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplacementPlan{" +
+                "source=" + source +
+                ", placeholders=" + placeholders +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.util;
+
+import java.util.Set;
+
+/**
+ * Sets of {@link TextGoal}s represented as bitmasks, where each goal's bit is
+ * {@code 1 << goal.ordinal()}. Testing a goal is then a single mask test.
+ *
+ */
+final class TextGoals {
+
+    static final int NONE = 0;
+    static final int SIMPLE_TEXT = bit(TextGoal.SIMPLE_TEXT);
+    static final int HOVER_TEXT = bit(TextGoal.HOVER_TEXT);
+    static final int CLICK_VALUE = bit(TextGoal.CLICK_VALUE);
+    static final int INSERTION_VALUE = bit(TextGoal.INSERTION_VALUE);
+
+    /** The goals which concern the events of a component, rather than its content */
+    static final int EVENTS = HOVER_TEXT | CLICK_VALUE | INSERTION_VALUE;
+
+    private TextGoals() {}
+
+    static int bit(TextGoal goal) {
+        return 1 << goal.ordinal();
+    }
+
+    static int mask(Set<TextGoal> goals) {
+        int mask = NONE;
+        for (TextGoal goal : goals) {
+            mask |= bit(goal);
+        }
+        return mask;
+    }
+
+    static boolean contains(int mask, int goalBits) {
+        return (mask & goalBits) != 0;
+    }
+}
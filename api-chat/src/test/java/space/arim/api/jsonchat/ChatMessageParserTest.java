@@ -26,6 +26,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static space.arim.api.jsonchat.testing.TestUtil.randomString;
@@ -144,6 +148,36 @@ public class ChatMessageParserTest {
         verifyNoMoreInteractions(visitor);
     }
 
+    @Test
+    public void escapeDoublePipesAtEndOfMessage() {
+        parse("Some text with pipes: ||||");
+        verify(visitor).visitPlainText("Some text with pipes: ||");
+        verifyNoMoreInteractions(visitor);
+    }
+
+    @Test
+    public void escapeDoublePipesOnly() {
+        parse("||||");
+        verify(visitor).visitPlainText("||");
+        verifyNoMoreInteractions(visitor);
+    }
+
+    @Test
+    public void escapeDoublePipesAtStartOfMessage() {
+        parse("||||Some text||ttp:Hover on me");
+        verify(visitor).visitPlainText("||Some text");
+        verify(visitor).visitHoverEvent("Hover on me");
+        verifyNoMoreInteractions(visitor);
+    }
+
+    @Test
+    public void oddPipesSeparateBeforeLiteralPipe() {
+        parse("Some text|||ins:insert me");
+        verify(visitor).visitPlainText("Some text");
+        verify(visitor).visitPlainText("|ins:insert me");
+        verifyNoMoreInteractions(visitor);
+    }
+
     @Test
     public void escapeStartTagUsingNil() {
         parse("Some text||nil:ttp:Hover on me to insert||nil:ins:insert me");
@@ -153,6 +187,48 @@ public class ChatMessageParserTest {
         verifyNoMoreInteractions(visitor);
     }
 
+    @Test
+    public void rangeVisitorReceivesRanges() {
+        RecordingRangeVisitor rangeVisitor = new RecordingRangeVisitor();
+        new ChatMessageParser(rangeVisitor,
+                "Some text||ttp:Hover on me||cmd:/spawn||ins:insert me||nil:ttp:more text").parse();
+        assertEquals(List.of(
+                "text:Some text", "hover:Hover on me", "click:RUN_COMMAND:/spawn",
+                "insertion:insert me", "text:ttp:more text"), rangeVisitor.events);
+    }
+
+    @Test
+    public void rangeVisitorReceivesEscapedPipes() {
+        RecordingRangeVisitor rangeVisitor = new RecordingRangeVisitor();
+        new ChatMessageParser(rangeVisitor, "Some text with |||| pipes||ttp:Hover |||| on me").parse();
+        assertEquals(List.of("text:Some text with || pipes", "hover:Hover || on me"), rangeVisitor.events);
+    }
+
+    private static final class RecordingRangeVisitor implements RangeParsingVisitor {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void visitHoverEvent(CharSequence source, int start, int end) {
+            events.add("hover:" + source.subSequence(start, end));
+        }
+
+        @Override
+        public void visitClickEvent(ClickEventInfo.ClickType clickType, CharSequence source, int start, int end) {
+            events.add("click:" + clickType + ':' + source.subSequence(start, end));
+        }
+
+        @Override
+        public void visitInsertion(CharSequence source, int start, int end) {
+            events.add("insertion:" + source.subSequence(start, end));
+        }
+
+        @Override
+        public void visitPlainText(CharSequence source, int start, int end) {
+            events.add("text:" + source.subSequence(start, end));
+        }
+    }
+
     @Override
     public String toString() {
         return "ChatMessageParserTest " + hashCode();
@@ -23,9 +23,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static space.arim.api.jsonchat.ClickEventInfo.newFrom;
 
 public class ChatMessageReconstitutorTest {
@@ -125,4 +130,83 @@ public class ChatMessageReconstitutorTest {
         assertReconstitution("Some text||nil:ttp:Hover on me to insert||nil:ins:insert me",
                 simplePart("Some text"), simplePart("ttp:Hover on me to insert"), simplePart("ins:insert me"));
     }
+
+    @Test
+    public void resetAndReuse() {
+        assertReconstitution("Some text||ttp:Hover on me",
+                new ChatMessagePart.Builder().associatedHoverEvent("Hover on me").build("Some text"));
+        reconstitutor.reset();
+        assertReconstitution("Other text", simplePart("Other text"));
+    }
+
+    @Test
+    public void streamToAppendable() {
+        StringWriter writer = new StringWriter();
+        ChatMessageReconstitutor streaming = new ChatMessageReconstitutor(writer);
+        streaming.writeMessagePart(new ChatMessagePart.Builder().associatedInsertion("insert me").build("Some text"));
+        streaming.writeMessagePart(simplePart("ttp:continues || here"));
+        assertEquals("Some text||ins:insert me||nil:ttp:continues |||| here", writer.toString());
+        assertThrows(IllegalStateException.class, streaming::reconstitute);
+    }
+
+    @Test
+    public void streamingRethrowsIOException() {
+        IOException failure = new IOException("broken");
+        Appendable broken = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw failure;
+            }
+        };
+        ChatMessageReconstitutor streaming = new ChatMessageReconstitutor(broken);
+        UncheckedIOException thrown = assertThrows(UncheckedIOException.class,
+                () -> streaming.writeMessagePart(simplePart("Some text")));
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    public void writePiecewise() throws IOException {
+        reconstitutor.beginPlainText().append("Some ").append('t').append("extual", 0, 3);
+        reconstitutor.writeClickEvent(ClickEventInfo.ClickType.RUN_COMMAND, "/spawn");
+        reconstitutor.beginPlainText().append("More text");
+        reconstitutor.beginHoverEvent().append("Hover").append(" on me");
+        reconstitutor.writeInsertion("insert me");
+        assertEquals("Some text||cmd:/spawn||More text||ttp:Hover on me||ins:insert me", reconstitutor.reconstitute());
+    }
+
+    @Test
+    public void writePiecewiseEscapesPipesAcrossAppends() throws IOException {
+        reconstitutor.beginPlainText().append("Some |").append('|').append(" pipes |").append("|");
+        reconstitutor.beginHoverEvent().append("|").append("|||").append('|');
+        assertEquals("Some |||| pipes ||||||ttp:|||||||||", reconstitutor.reconstitute());
+    }
+
+    @Test
+    public void writePiecewiseEscapesTagsAcrossAppends() throws IOException {
+        reconstitutor.beginPlainText().append("tt").append('p').append(":Not a hover");
+        reconstitutor.beginPlainText().append('|').append("|starts with pipes");
+        reconstitutor.beginPlainText().append("ttp:");
+        assertEquals("nil:ttp:Not a hover||nil:||||starts with pipes||ttp:", reconstitutor.reconstitute());
+    }
+
+    @Test
+    public void finishSegmentWhenStreaming() throws IOException {
+        StringWriter writer = new StringWriter();
+        ChatMessageReconstitutor streaming = new ChatMessageReconstitutor(writer);
+        Appendable plainText = streaming.beginPlainText();
+        plainText.append("nil:text ||");
+        streaming.finishSegment();
+        assertEquals("nil:nil:text ||||", writer.toString());
+        assertThrows(IllegalStateException.class, () -> plainText.append("more"));
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChatMessageComponentSerializerTest {
+
+    private final ChatMessageComponentSerializer serializer = new ChatMessageComponentSerializer(
+            new JsonSkFormattingSerializer(), Adventure5Compat.DEFAULT);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void deserializeAllPreservesOrder() {
+        List<String> inputs = new ArrayList<>();
+        for (int n = 0; n < 100; n++) {
+            inputs.add("&aMessage " + n + "||ttp:&7Hover " + n);
+        }
+        List<DeserializationResult> results = serializer.deserializeAll(inputs, executor).join();
+        assertEquals(inputs.size(), results.size());
+        for (int n = 0; n < inputs.size(); n++) {
+            DeserializationResult result = results.get(n);
+            assertTrue(result.succeeded());
+            assertEquals(inputs.get(n), result.input());
+            assertEquals(serializer.deserialize(inputs.get(n)), result.component());
+        }
+    }
+
+    @Test
+    public void deserializeAllEmpty() {
+        assertEquals(List.of(), serializer.deserializeAll(List.of(), executor).join());
+    }
+
+    @Test
+    public void deserializeAllReportsFailures() {
+        List<DeserializationResult> results = serializer.deserializeAll(
+                Arrays.asList("&aFirst", null, "&bThird"), executor).join();
+        assertTrue(results.get(0).succeeded());
+        assertFalse(results.get(1).succeeded());
+        assertNull(results.get(1).component());
+        assertInstanceOf(NullPointerException.class, results.get(1).failure());
+        assertEquals(serializer.deserialize("&bThird"), results.get(2).component());
+    }
+
+    @Test
+    public void deserializeAllMap() {
+        Map<String, String> inputs = new LinkedHashMap<>();
+        for (int n = 0; n < 50; n++) {
+            inputs.put("key-" + (50 - n), "&eValue " + n);
+        }
+        Map<String, DeserializationResult> results = serializer.deserializeAll(inputs).join();
+        assertEquals(List.copyOf(inputs.keySet()), List.copyOf(results.keySet()));
+        inputs.forEach((key, input) -> {
+            assertEquals(serializer.deserialize(input), results.get(key).component());
+        });
+    }
+
+}
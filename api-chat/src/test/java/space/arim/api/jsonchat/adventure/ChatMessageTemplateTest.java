@@ -0,0 +1,120 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChatMessageTemplateTest {
+
+    private final ChatMessageComponentSerializer serializer = new ChatMessageComponentSerializer(
+            new JsonSkFormattingSerializer(), Adventure5Compat.DEFAULT);
+
+    private void assertRendersLikeReplacedInput(String input, Set<String> placeholders,
+                                                Map<String, String> values) {
+        String replacedInput = input;
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            replacedInput = replacedInput.replace(value.getKey(), value.getValue());
+        }
+        ChatMessageTemplate template = serializer.compileTemplate(input, placeholders);
+        assertEquals(serializer.deserialize(replacedInput), template.render(values));
+    }
+
+    @Test
+    public void noPlaceholders() {
+        ChatMessageTemplate template = serializer.compileTemplate("&aHello||ttp:&7there", Set.of("%player%"));
+        assertSame(template.component(), template.render(Map.of("%player%", "A248")));
+    }
+
+    @Test
+    public void placeholderInText() {
+        assertRendersLikeReplacedInput(
+                "&aHello &e%player%&a, welcome to %server%", Set.of("%player%", "%server%"),
+                Map.of("%player%", "A248", "%server%", "the server"));
+    }
+
+    @Test
+    public void placeholderInEvents() {
+        assertRendersLikeReplacedInput(
+                "&7Click %player%||ttp:&eView %player%'s profile||cmd:/profile %player%||ins:%player%",
+                Set.of("%player%"), Map.of("%player%", "A248"));
+    }
+
+    @Test
+    public void untouchedSegmentsAreShared() {
+        ChatMessageTemplate template = serializer.compileTemplate(
+                "&aWelcome||ttp:Hover||&e%player%||&7 to the server", Set.of("%player%"));
+        Component rendered = template.render(Map.of("%player%", "A248"));
+        Component original = template.component();
+        assertSame(original.children().get(0), rendered.children().get(0));
+        assertSame(original.children().get(2), rendered.children().get(2));
+        assertEquals(serializer.deserialize("&aWelcome||ttp:Hover||&eA248||&7 to the server"), rendered);
+    }
+
+    @Test
+    public void missingValueLeavesPlaceholder() {
+        ChatMessageTemplate template = serializer.compileTemplate("&a%player% on %server%", Set.of("%player%", "%server%"));
+        assertEquals(
+                serializer.deserialize("&aA248 on %server%"),
+                template.render(Map.of("%player%", "A248")));
+    }
+
+    @Test
+    public void valuesAreLiteralText() {
+        ChatMessageTemplate template = serializer.compileTemplate("&aHello %player%", Set.of("%player%"));
+        Component rendered = template.render(Map.of("%player%", "&c||ttp:hi"));
+        assertEquals(Component.text("Hello &c||ttp:hi", template.component().style()), rendered);
+    }
+
+    @Test
+    public void overlappingPlaceholdersPreferLongest() {
+        assertRendersLikeReplacedInput(
+                "&e%player_name% and %player%", Set.of("%player%", "%player_name%"),
+                Map.of("%player_name%", "A248"));
+        ChatMessageTemplate template = serializer.compileTemplate(
+                "%player_name% and %player%", Set.of("%player%", "%player_name%"));
+        assertEquals(
+                serializer.deserialize("Anand and A248"),
+                template.render(Map.of("%player_name%", "Anand", "%player%", "A248")));
+    }
+
+    @Test
+    public void emptyPlaceholderRejected() {
+        assertThrows(IllegalArgumentException.class, () -> serializer.compileTemplate("text", Set.of("")));
+    }
+
+    @Test
+    public void deserializationCache() {
+        var cachingSerializer = new ChatMessageComponentSerializer(
+                new JsonSkFormattingSerializer(), Adventure5Compat.DEFAULT, 2);
+        Component first = cachingSerializer.deserialize("&aFirst");
+        assertSame(first, cachingSerializer.deserialize("&aFirst"));
+        assertEquals(serializer.deserialize("&aFirst"), first);
+    }
+
+}
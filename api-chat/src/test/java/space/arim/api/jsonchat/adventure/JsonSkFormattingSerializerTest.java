@@ -33,6 +33,7 @@ import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
 import static net.kyori.adventure.text.format.NamedTextColor.GRAY;
 import static net.kyori.adventure.text.format.NamedTextColor.GREEN;
 import static net.kyori.adventure.text.format.NamedTextColor.RED;
+import static net.kyori.adventure.text.format.NamedTextColor.WHITE;
 import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
 import static net.kyori.adventure.text.format.Style.style;
 import static net.kyori.adventure.text.format.TextColor.color;
@@ -40,6 +41,7 @@ import static net.kyori.adventure.text.format.TextDecoration.BOLD;
 import static net.kyori.adventure.text.format.TextDecoration.UNDERLINED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static space.arim.api.jsonchat.testing.AdventureUtil.text;
 import static space.arim.api.jsonchat.testing.AdventureUtil.toComponentList;
@@ -108,6 +110,37 @@ public class JsonSkFormattingSerializerTest {
                 text("E", TextColor.color(0x5afc93)), text("a ", TextColor.color(0x59fca2)));
     }
 
+    @Test
+    public void shortHexColor() {
+        assertRoundTrip("<#0ff>short <#4bc>hex", text("short ", color(0x00ffff)), text("hex", color(0x44bbcc)));
+    }
+
+    @Test
+    public void unrecognizedCodesAreLiteral() {
+        assertRoundTrip("&pnot &qcodes <#12345> <#xyz> &", text("&pnot &qcodes <#12345> <#xyz> &"));
+    }
+
+    @Test
+    public void readFormattingSharesStyles() {
+        List<Component> first = toComponentList(formattingSerializer.readFormatting("&6&lSome <#cc5941>text"));
+        List<Component> second = toComponentList(formattingSerializer.readFormatting("<#cc5941>Other &6&ltext"));
+        assertSame(first.get(0).style(), second.get(1).style());
+        assertSame(first.get(1).style(), second.get(0).style());
+    }
+
+    @Test
+    public void readFormattingRange() {
+        String source = "&ahidden||some &atext <#cc5941>with&e||hidden";
+        int start = source.indexOf("||") + 2;
+        int end = source.lastIndexOf("||");
+        assertEquals(
+                toComponentList(formattingSerializer.readFormatting(source.substring(start, end))),
+                toComponentList(formattingSerializer.readFormatting(new StringBuilder(source), start, end)));
+        assertEquals(
+                List.of(text("some "), text("text ", GREEN), text("with", color(0xcc5941))),
+                toComponentList(formattingSerializer.readFormatting(source, start, end)));
+    }
+
     @Test
     public void sameStylesDifferentColor() {
         assertRoundTrip("&6&lSome &a&lbold text", text("Some ", GOLD, BOLD), text("bold text", GREEN, BOLD));
@@ -118,4 +151,16 @@ public class JsonSkFormattingSerializerTest {
         assertRoundTrip("&6&lSome &r&6&nbold text", text("Some ", GOLD, BOLD), text("bold text", GOLD, UNDERLINED));
     }
 
+    @Test
+    public void sameColorSupersetStyles() {
+        assertRoundTrip("&6&lSome &nbold text",
+                text("Some ", GOLD, BOLD), text("bold text", style(GOLD, BOLD, UNDERLINED)));
+    }
+
+    @Test
+    public void whiteDifferentStyles() {
+        assertRoundTrip("&lSome &r&nwhite text",
+                text("Some ", WHITE, BOLD), text("white text", WHITE, UNDERLINED));
+    }
+
 }
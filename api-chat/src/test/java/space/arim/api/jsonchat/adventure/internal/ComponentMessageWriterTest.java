@@ -0,0 +1,99 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.api.jsonchat.ChatMessageReconstitutor;
+import space.arim.api.jsonchat.adventure.ChatMessageComponentSerializer;
+import space.arim.api.jsonchat.adventure.FormattingSerializer;
+import space.arim.api.jsonchat.adventure.JsonSkFormattingSerializer;
+import space.arim.api.jsonchat.adventure.util.Adventure5Compat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ComponentMessageWriterTest {
+
+    private final FormattingSerializer formattingSerializer = new JsonSkFormattingSerializer();
+    private final ChatMessageComponentSerializer serializer = new ChatMessageComponentSerializer(
+            formattingSerializer, Adventure5Compat.DEFAULT);
+
+    private String writeUsingMessageParts(Component component) {
+        ChatMessageReconstitutor reconstitutor = new ChatMessageReconstitutor();
+        reconstitutor.writeAllMessageParts(new ComponentToMessagePartIterator(
+                Adventure5Compat.DEFAULT,
+                new AddedFunctionalityPeekingIterator<>(new StyledComponentIterator(component)),
+                formattingSerializer));
+        return reconstitutor.reconstitute();
+    }
+
+    private String writeDirectly(Component component) {
+        ChatMessageReconstitutor reconstitutor = new ChatMessageReconstitutor();
+        new ComponentMessageWriter(Adventure5Compat.DEFAULT, formattingSerializer).write(component, reconstitutor);
+        return reconstitutor.reconstitute();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "Simple text",
+            "&aSome &c&lbold &btext",
+            "&aSome text||ttp:&7Hover on me||cmd:/spawn||&cMore text",
+            "Some text||ttp:Hover||ins:insert me||url:https://github.com||Other text||sgt:/msg ",
+            "Some text with |||| pipes||ttp:Hover |||||||| on me||ins:insert || me",
+            "||||Starts with pipes||nil:ttp:Not a hover||Ends with pipes ||||",
+            "<#00ccff>Hex text||ttp:&bHover&r with <#ff0000>hex||&eNext||&eSame style"})
+    public void sameOutputAsMessageParts(String input) {
+        Component component = serializer.deserialize(input);
+        assertEquals(writeUsingMessageParts(component), writeDirectly(component));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "&aSome text||ttp:&7Hover on me||cmd:/spawn||&cMore text",
+            "&aSome &c&lbold &btext||ins:insert me||&eSame style||&eSame style"})
+    public void formattingSerializerTraversingTwice(String input) {
+        Component component = serializer.deserialize(input);
+        FormattingSerializer traversingTwice = new FormattingSerializer() {
+            @Override
+            public List<? extends ComponentLike> readFormatting(String text) {
+                return formattingSerializer.readFormatting(text);
+            }
+
+            @Override
+            public void writeFormatting(Iterable<Component> components, Appendable output) throws IOException {
+                List<Component> firstTraversal = new ArrayList<>();
+                components.forEach(firstTraversal::add);
+                List<Component> secondTraversal = new ArrayList<>();
+                components.forEach(secondTraversal::add);
+                assertEquals(firstTraversal, secondTraversal);
+                formattingSerializer.writeFormatting(secondTraversal, output);
+            }
+        };
+        ChatMessageReconstitutor reconstitutor = new ChatMessageReconstitutor();
+        new ComponentMessageWriter(Adventure5Compat.DEFAULT, traversingTwice).write(component, reconstitutor);
+        assertEquals(writeDirectly(component), reconstitutor.reconstitute());
+    }
+}
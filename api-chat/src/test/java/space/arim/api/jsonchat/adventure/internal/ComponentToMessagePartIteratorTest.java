@@ -51,7 +51,8 @@ public class ComponentToMessagePartIteratorTest {
     public void singleAlikeSegment() {
         String text = "&aSome &c&lbold &atext";
         List<Component> formatting = toComponentList(formattingSerializer.readFormatting(text));
-        PeekingIterator<Component> peekingIter = new ListIteratorPeekingIterator<>(formatting.listIterator());
+        PeekingIterator<StyledComponent> peekingIter = new ListIteratorPeekingIterator<>(
+                mapList(formatting, StyledComponent::root).listIterator());
         assertEquals(
                 List.of(new ChatMessagePart.Builder().build(text)),
                 collect(new ComponentToMessagePartIterator(Adventure5Compat.DEFAULT, peekingIter, formattingSerializer)));
@@ -85,7 +86,8 @@ public class ComponentToMessagePartIteratorTest {
             }
             segmentIndex++;
         }
-        PeekingIterator<Component> peekingIter = new ListIteratorPeekingIterator<>(allComponents.listIterator());
+        PeekingIterator<StyledComponent> peekingIter = new ListIteratorPeekingIterator<>(
+                mapList(allComponents, StyledComponent::root).listIterator());
         assertEquals(
                 allMessageParts,
                 collect(new ComponentToMessagePartIterator(Adventure5Compat.DEFAULT, peekingIter, formattingSerializer)));
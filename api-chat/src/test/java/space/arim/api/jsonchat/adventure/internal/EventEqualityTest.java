@@ -0,0 +1,101 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventEqualityTest {
+
+    private static HoverEvent<Component> hover(String text) {
+        return HoverEvent.showText(Component.text()
+                .append(Component.text(text, NamedTextColor.GREEN))
+                .append(Component.text(" and more", NamedTextColor.GRAY))
+                .build());
+    }
+
+    @Test
+    public void sameHoverInstance() {
+        HoverEvent<Component> hover = hover("Hover");
+        assertTrue(EventEquality.sameHover(hover, hover));
+        assertTrue(EventEquality.sameHover(null, null));
+    }
+
+    @Test
+    public void equalHoverInstances() {
+        assertTrue(EventEquality.sameHover(hover("Hover"), hover("Hover")));
+    }
+
+    @Test
+    public void differentHovers() {
+        HoverEvent<Component> hover = hover("Hover");
+        assertFalse(EventEquality.sameHover(hover, hover("Other hover")));
+        assertFalse(EventEquality.sameHover(hover, null));
+        assertFalse(EventEquality.sameHover(null, hover));
+    }
+
+    @Test
+    public void hoverComparisonsInSequence() {
+        HoverEvent<Component> first = hover("First");
+        HoverEvent<Component> second = hover("Second");
+        HoverEvent<Component> secondAgain = hover("Second");
+        assertFalse(EventEquality.sameHover(first, second));
+        assertTrue(EventEquality.sameHover(second, secondAgain));
+        assertFalse(EventEquality.sameHover(secondAgain, first));
+        assertTrue(EventEquality.sameHover(first, hover("First")));
+        assertFalse(EventEquality.sameHover(hover("Third"), second));
+    }
+
+    @Test
+    public void sameClick() {
+        ClickEvent click = ClickEvent.runCommand("/spawn");
+        assertTrue(EventEquality.sameClick(click, click));
+        assertTrue(EventEquality.sameClick(click, ClickEvent.runCommand("/spawn")));
+        assertTrue(EventEquality.sameClick(null, null));
+        assertFalse(EventEquality.sameClick(click, ClickEvent.suggestCommand("/spawn")));
+        assertFalse(EventEquality.sameClick(click, null));
+        assertFalse(EventEquality.sameClick(null, click));
+    }
+
+    @Test
+    public void sameInsertion() {
+        assertTrue(EventEquality.sameInsertion("insert", "insert"));
+        assertTrue(EventEquality.sameInsertion("insert", new String("insert")));
+        assertTrue(EventEquality.sameInsertion(null, null));
+        assertFalse(EventEquality.sameInsertion("insert", "other"));
+        assertFalse(EventEquality.sameInsertion("insert", null));
+        assertFalse(EventEquality.sameInsertion(null, "insert"));
+    }
+
+    @Test
+    public void sameEvents() {
+        HoverEvent<Component> hover = hover("Hover");
+        ClickEvent click = ClickEvent.openUrl("https://github.com");
+        assertTrue(EventEquality.sameEvents(hover, click, "insert", hover("Hover"), click, "insert"));
+        assertFalse(EventEquality.sameEvents(hover, click, "insert", hover, click, null));
+        assertFalse(EventEquality.sameEvents(hover, click, null, hover, null, null));
+        assertFalse(EventEquality.sameEvents(hover, null, null, hover("Other"), null, null));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LruCacheTest {
+
+    @Test
+    public void computesOnce() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+        for (int n = 0; n < 3; n++) {
+            assertEquals("KEY", cache.get("key", (key) -> {
+                computations.incrementAndGet();
+                return key.toUpperCase();
+            }));
+        }
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        LruCache<Integer, Integer> cache = new LruCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+        cache.get(1, (key) -> computations.incrementAndGet());
+        cache.get(2, (key) -> computations.incrementAndGet());
+        // Access 1 so that 2 is least recently used
+        assertEquals(1, cache.get(1, (key) -> computations.incrementAndGet()));
+        cache.get(3, (key) -> computations.incrementAndGet());
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get(1, (key) -> computations.incrementAndGet()));
+        assertEquals(4, cache.get(2, (key) -> computations.incrementAndGet()));
+    }
+
+    @Test
+    public void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+
+}
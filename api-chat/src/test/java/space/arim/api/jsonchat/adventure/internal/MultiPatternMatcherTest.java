@@ -0,0 +1,83 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiPatternMatcherTest {
+
+    private static String replaceAll(String text, Map<String, String> replacements) {
+        return new MultiPatternMatcher(replacements.keySet()).replaceAll(text, replacements::get);
+    }
+
+    @Test
+    public void noPatterns() {
+        assertNull(new MultiPatternMatcher(Set.of()).find("text", 0));
+    }
+
+    @Test
+    public void emptyPattern() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiPatternMatcher(List.of("a", "")));
+    }
+
+    @Test
+    public void find() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(List.of("%player%", "%reason%"));
+        String text = "%player% was banned for %reason%";
+        assertEquals(new MultiPatternMatcher.Match(0, "%player%"), matcher.find(text, 0));
+        assertEquals(new MultiPatternMatcher.Match(24, "%reason%"), matcher.find(text, 8));
+        assertNull(matcher.find(text, 25));
+    }
+
+    @Test
+    public void replaceAll() {
+        assertEquals(
+                "A248 was banned for spamming",
+                replaceAll("%player% was banned for %reason%", Map.of("%player%", "A248", "%reason%", "spamming")));
+    }
+
+    @Test
+    public void leftmostThenLongest() {
+        assertEquals("[abcd]e", replaceAll("abcde", Map.of("bc", "[bc]", "abcd", "[abcd]", "ab", "[ab]")));
+        assertEquals("[abc]d", replaceAll("abcd", Map.of("bcd", "[bcd]", "abc", "[abc]")));
+        assertEquals("x[ab]c", replaceAll("xabc", Map.of("b", "[b]", "ab", "[ab]", "abd", "[abd]")));
+    }
+
+    @Test
+    public void nullReplacementKeepsMatch() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(List.of("%one%", "%two%"));
+        assertEquals("%one% 2", matcher.replaceAll("%one% %two%", (pattern) -> pattern.equals("%two%") ? "2" : null));
+    }
+
+    @Test
+    public void noMatchReturnsSameString() {
+        String text = "nothing to replace";
+        assertSame(text, replaceAll(text, Map.of("%player%", "A248")));
+    }
+}
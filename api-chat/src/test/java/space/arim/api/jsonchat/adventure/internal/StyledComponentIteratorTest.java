@@ -0,0 +1,86 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.internal;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static space.arim.api.jsonchat.testing.AdventureUtil.randomSimpleComponent;
+import static space.arim.api.jsonchat.testing.TestUtil.collect;
+import static space.arim.api.jsonchat.testing.TestUtil.mapList;
+
+public class StyledComponentIteratorTest {
+
+    @Test
+    public void unstyledParentDoesNotRebuildChildren() {
+        Component[] extras = new Component[] {
+                randomSimpleComponent().color(NamedTextColor.RED), randomSimpleComponent()};
+        Component main = Component.text().append(extras).build();
+
+        List<StyledComponent> styled = collect(new StyledComponentIterator(main));
+        assertEquals(3, styled.size());
+        assertSame(main, styled.get(0).materialize());
+        assertSame(extras[0], styled.get(1).materialize());
+        assertSame(extras[1], styled.get(2).materialize());
+    }
+
+    @Test
+    public void effectiveStyleInherited() {
+        Component child = Component.text("child").decorate(TextDecoration.BOLD);
+        Component unstyledChild = Component.text("unstyled child");
+        Component main = Component.text("main", NamedTextColor.AQUA).insertion("insert me")
+                .children(List.of(child, unstyledChild));
+
+        List<StyledComponent> styled = collect(new StyledComponentIterator(main));
+        assertEquals(
+                List.of(main, child, unstyledChild),
+                mapList(styled, StyledComponent::component));
+        assertEquals(NamedTextColor.AQUA, styled.get(1).effectiveStyle().color());
+        assertEquals("insert me", styled.get(1).insertion());
+        assertEquals(TextDecoration.State.TRUE, styled.get(1).effectiveStyle().decoration(TextDecoration.BOLD));
+        assertSame(main.style(), styled.get(2).effectiveStyle());
+    }
+
+    @Test
+    public void deepNesting() {
+        int depth = 5_000;
+        Component component = Component.text(Integer.toString(depth - 1));
+        for (int n = depth - 2; n >= 0; n--) {
+            component = Component.text().content(Integer.toString(n)).append(component, Component.text("sibling")).build();
+        }
+        List<String> contents = mapList(
+                collect(new StyledComponentIterator(component)),
+                (styled) -> ((TextComponent) styled.component()).content());
+
+        assertEquals(depth + (depth - 1), contents.size());
+        for (int n = 0; n < depth - 1; n++) {
+            assertEquals(Integer.toString(n), contents.get(n));
+            assertEquals("sibling", contents.get(contents.size() - 1 - n));
+        }
+        assertEquals(Integer.toString(depth - 1), contents.get(depth - 1));
+    }
+}
@@ -39,7 +39,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static space.arim.api.jsonchat.adventure.util.TextGoal.CLICK_VALUE;
 import static space.arim.api.jsonchat.adventure.util.TextGoal.HOVER_TEXT;
 import static space.arim.api.jsonchat.adventure.util.TextGoal.INSERTION_VALUE;
@@ -135,6 +137,38 @@ public class ComponentTextBasicsTest {
         });
     }
 
+    @Test
+    public void sumLengthPerGoal() {
+        Component component = Component.text().content("content")
+                .hoverEvent(HoverEvent.showText(Component.text("hover").append(Component.text("text"))))
+                .clickEvent(ClickEvent.openUrl("https://url"))
+                .build();
+        ComponentText componentText = ComponentText.create(component, Set.of(SIMPLE_TEXT, HOVER_TEXT),
+                Adventure5Compat.DEFAULT);
+        assertEquals(7, componentText.sumLength(SIMPLE_TEXT));
+        assertEquals(9, componentText.sumLength(HOVER_TEXT));
+        assertEquals(0, componentText.sumLength(CLICK_VALUE), "Goal not used");
+        assertEquals(0, componentText.sumLength(INSERTION_VALUE));
+        assertEquals(16, componentText.sumLength());
+    }
+
+    @Test
+    public void containsDoesNotSpanSeparateText() {
+        Component component = Component.text().content("ab")
+                .append(Component.text(""), Component.text("cd"))
+                .insertion("ef")
+                .build();
+        ComponentText componentText = ComponentText.create(component, Adventure5Compat.DEFAULT);
+        assertTrue(componentText.contains(""));
+        assertTrue(componentText.contains("ab"));
+        assertTrue(componentText.contains("cd"));
+        assertTrue(componentText.contains("ef"));
+        assertFalse(componentText.contains("bc"));
+        assertFalse(componentText.contains("abcd"));
+        assertFalse(componentText.contains("xyz"));
+        assertFalse(ComponentText.create(component, Adventure5Compat.DEFAULT, CLICK_VALUE).contains(""));
+    }
+
     /**
      * Returns a random string. If {@code containing}, the generated string includes
      * the given {@code value}, if not, it does not
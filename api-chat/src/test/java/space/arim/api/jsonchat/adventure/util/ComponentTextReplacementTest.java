@@ -26,9 +26,15 @@ import net.kyori.adventure.text.event.HoverEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static space.arim.api.jsonchat.testing.TestUtil.randomString;
 
 public class ComponentTextReplacementTest {
@@ -80,4 +86,124 @@ public class ComponentTextReplacementTest {
         };
         assertEquals(component(operator), componentText.replaceText(operator).asComponent());
     }
+
+    @Test
+    public void replaceAll() {
+        String replacement1 = cleanRandomString();
+        String replacement2 = cleanRandomString();
+        String replacement3 = cleanRandomString();
+        String replacement4 = cleanRandomString();
+        Function<String, String> operator = (str) -> {
+            return str.replace("%ONE%", replacement1).replace("%TWO%", replacement2)
+                    .replace("%THREE%", replacement3).replace("%FOUR%", replacement4);
+        };
+        ComponentText replaced = componentText.replaceAll(Map.of(
+                "%ONE%", replacement1, "%TWO%", replacement2,
+                "%THREE%", replacement3, "%FOUR%", replacement4));
+        assertEquals(component(operator), replaced.asComponent());
+    }
+
+    @Test
+    public void replaceAllRespectsGoals() {
+        ComponentText simpleTextOnly = ComponentText.create(
+                component(Function.identity()), Adventure5Compat.DEFAULT, TextGoal.SIMPLE_TEXT);
+        Component expected = Component.text()
+                .content("Some content with 1 really %TWO% variables")
+                .hoverEvent(HoverEvent.showText(Component.text("Contains %ONE%")))
+                .clickEvent(ClickEvent.runCommand("As well as %THREE%"))
+                .insertion("%TWO% again")
+                .append(Component.text()
+                        .content("A %FOUR%th variable")
+                        .hoverEvent(HoverEvent.showText(Component.text("Back to %ONE%"))))
+                .build();
+        assertEquals(expected, simpleTextOnly.replaceAll(Map.of("%ONE%", "1")).asComponent());
+    }
+
+    @Test
+    public void replaceAllDoesNotReplaceReplacements() {
+        ComponentText componentText = ComponentText.create(Component.text("%A% and %B%"), Adventure5Compat.DEFAULT);
+        assertEquals(
+                Component.text("%B% and b"),
+                componentText.replaceAll(Map.of("%A%", "%B%", "%B%", "b")).asComponent());
+    }
+
+    @Test
+    public void replaceAllNoMatchesReturnsSameComponent() {
+        assertSame(
+                componentText.asComponent(),
+                componentText.replaceAll(Map.of("%FIVE%", "5")).asComponent());
+    }
+
+    @Test
+    public void compileAndApply() {
+        ReplacementPlan plan = componentText.compile(Set.of("%ONE%", "%TWO%", "%THREE%", "%FOUR%"));
+        for (int n = 0; n < 3; n++) {
+            Map<String, String> values = Map.of(
+                    "%ONE%", cleanRandomString(), "%TWO%", cleanRandomString(),
+                    "%THREE%", cleanRandomString(), "%FOUR%", cleanRandomString());
+            assertEquals(componentText.replaceAll(values), plan.apply(values));
+        }
+    }
+
+    @Test
+    public void compileSharesUntouchedComponents() {
+        ReplacementPlan plan = componentText.compile(Set.of("%THREE%"));
+        Component replaced = plan.apply(Map.of("%THREE%", "3")).asComponent();
+        assertEquals("As well as 3", replaced.clickEvent().value());
+        assertSame(componentText.asComponent().children().get(0), replaced.children().get(0));
+    }
+
+    @Test
+    public void compileWithoutPlaceholdersPresent() {
+        ReplacementPlan plan = componentText.compile(Set.of("%FIVE%"));
+        assertSame(componentText, plan.apply(Map.of("%FIVE%", "5")));
+    }
+
+    @Test
+    public void noOpReplacementReturnsSameInstance() {
+        assertSame(componentText, componentText.replaceText("%FIVE%", "5"));
+        assertSame(componentText, componentText.replaceText(Function.identity()));
+    }
+
+    @Test
+    public void replacementInChildSharesUnchangedParts() {
+        ComponentText replaced = componentText.replaceText("%FOUR%", "4");
+        Component original = componentText.asComponent();
+        Component result = replaced.asComponent();
+        assertEquals("A 4th variable", ((TextComponent) result.children().get(0)).content());
+        assertSame(original.hoverEvent(), result.hoverEvent());
+        assertSame(original.children().get(0).hoverEvent(), result.children().get(0).hoverEvent());
+    }
+
+    @Test
+    public void replaceTextInParallel() {
+        List<Component> children = new ArrayList<>();
+        for (int n = 0; n < 1000; n++) {
+            if (n % 100 == 0) {
+                children.add(Component.text("Line %N% of many").children(List.of(Component.text("nested %N%"))));
+            } else {
+                children.add(Component.text("Line " + n).children(List.of(Component.text("nested"))));
+            }
+        }
+        ComponentText wide = ComponentText.create(Component.text().append(children).build(), Adventure5Compat.DEFAULT);
+        Function<String, String> operator = (str) -> str.replace("%N%", "N");
+
+        ComponentText replaced = wide.replaceText(operator, ForkJoinPool.commonPool(), 64);
+        assertEquals(wide.replaceText(operator), replaced);
+        List<Component> replacedChildren = replaced.asComponent().children();
+        for (int n = 0; n < 1000; n++) {
+            Component result = replacedChildren.get(n);
+            if (n % 100 == 0) {
+                assertEquals("Line N of many", ((TextComponent) result).content());
+                assertEquals("nested N", ((TextComponent) result.children().get(0)).content());
+            } else {
+                assertSame(children.get(n), result, "Unchanged children are shared");
+            }
+        }
+    }
+
+    @Test
+    public void replaceTextInParallelNoOp() {
+        assertSame(componentText, componentText.replaceText(Function.identity(), ForkJoinPool.commonPool(), 1));
+    }
 }
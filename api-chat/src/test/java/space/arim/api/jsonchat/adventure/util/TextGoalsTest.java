@@ -0,0 +1,52 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+
+package space.arim.api.jsonchat.adventure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextGoalsTest {
+
+    @Test
+    public void maskOfEachGoal() {
+        for (TextGoal goal : TextGoal.values()) {
+            int mask = TextGoals.mask(Set.of(goal));
+            assertEquals(TextGoals.bit(goal), mask);
+            for (TextGoal other : TextGoal.values()) {
+                assertEquals(goal == other, TextGoals.contains(mask, TextGoals.bit(other)));
+            }
+        }
+    }
+
+    @Test
+    public void maskOfSets() {
+        assertEquals(TextGoals.NONE, TextGoals.mask(Set.of()));
+        assertEquals(TextGoals.SIMPLE_TEXT, TextGoals.mask(TextGoal.simpleTextOnly()));
+        int all = TextGoals.mask(TextGoal.allGoals());
+        assertEquals(TextGoals.SIMPLE_TEXT | TextGoals.EVENTS, all);
+        assertTrue(TextGoals.contains(TextGoals.mask(Set.of(TextGoal.CLICK_VALUE)), TextGoals.EVENTS));
+        assertFalse(TextGoals.contains(TextGoals.SIMPLE_TEXT, TextGoals.EVENTS));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env.bukkit;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Audience for many command senders. System messages are converted once, to BungeeChat
+ * components for players and to legacy text for other command senders, and the result
+ * is sent to every recipient. Command senders which are already audiences receive the
+ * message as is. Other operations are forwarded to the audience of each command sender.
+ *
+ */
+final class BroadcastAudience implements ForwardingAudience {
+
+    private final List<Audience> audiences;
+    private final List<Audience> nativeAudiences = new ArrayList<>();
+    private final List<Player> players = new ArrayList<>();
+    private final List<CommandSender> otherSenders = new ArrayList<>();
+
+    BroadcastAudience(BukkitAudienceRepresenter representer, Collection<? extends CommandSender> commandSenders) {
+        audiences = new ArrayList<>(commandSenders.size());
+        for (CommandSender commandSender : commandSenders) {
+            Audience audience = representer.toAudience(commandSender);
+            audiences.add(audience);
+            if (audience == commandSender) {
+                nativeAudiences.add(audience);
+            } else if (commandSender instanceof Player) {
+                players.add((Player) commandSender);
+            } else {
+                otherSenders.add(commandSender);
+            }
+        }
+    }
+
+    @Override
+    public @NonNull Iterable<? extends Audience> audiences() {
+        return audiences;
+    }
+
+    @Override
+    public void sendMessage(@NonNull Identified source, @NonNull Component message, @NonNull MessageType type) {
+        sendMessage(source.identity(), message, type);
+    }
+
+    @Override
+    public void sendMessage(@NonNull Identity source, @NonNull Component message, @NonNull MessageType type) {
+        Objects.requireNonNull(message, "message");
+        if (!source.equals(Identity.nil()) || !type.equals(MessageType.SYSTEM)) {
+            // Not supported for players nor other senders; let each audience decide
+            ForwardingAudience.super.sendMessage(source, message, type);
+            return;
+        }
+        for (Audience nativeAudience : nativeAudiences) {
+            nativeAudience.sendMessage(source, message, type);
+        }
+        if (!players.isEmpty()) {
+            BaseComponent[] bungeeMessage = PlayerAudience.convertComponent(message);
+            for (Player player : players) {
+                player.spigot().sendMessage(bungeeMessage);
+            }
+        }
+        if (!otherSenders.isEmpty()) {
+            String legacyMessage = LegacyComponentSerializer.legacySection().serialize(message);
+            for (CommandSender sender : otherSenders) {
+                sender.sendMessage(legacyMessage);
+            }
+        }
+    }
+}
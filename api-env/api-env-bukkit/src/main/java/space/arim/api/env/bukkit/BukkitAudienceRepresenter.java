@@ -22,8 +22,15 @@ package space.arim.api.env.bukkit;
 import net.kyori.adventure.audience.Audience;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
 import space.arim.api.env.AudienceRepresenter;
+import space.arim.api.env.CachingAudienceRepresenter;
 
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -34,6 +41,46 @@ import java.util.Objects;
  */
 public final class BukkitAudienceRepresenter implements AudienceRepresenter<CommandSender> {
 
+    /**
+     * Creates an audience representer which caches the audiences of online players and
+     * of the console. Players are cached by UUID, and their audiences are removed from
+     * the cache when they quit, using a listener registered for the given plugin. The
+     * audiences of other command senders, such as command blocks, which may be created
+     * for each command, are not cached.
+     *
+     * @param plugin the plugin with which to register the listener
+     * @return the caching audience representer
+     */
+    public static CachingAudienceRepresenter<CommandSender> caching(Plugin plugin) {
+        CommandSender console = plugin.getServer().getConsoleSender();
+        CachingAudienceRepresenter<CommandSender> representer = new CachingAudienceRepresenter<>(
+                new BukkitAudienceRepresenter(),
+                (commandSender) -> (commandSender instanceof Player player) ? player.getUniqueId() : commandSender,
+                // Do not cache a player who has already left
+                (commandSender) -> (commandSender instanceof Player player) ? player.isOnline() : commandSender == console);
+        plugin.getServer().getPluginManager().registerEvents(new CacheInvalidationListener(plugin, representer), plugin);
+        return representer;
+    }
+
+    private static final class CacheInvalidationListener implements Listener {
+
+        private final Plugin plugin;
+        private final CachingAudienceRepresenter<CommandSender> representer;
+
+        CacheInvalidationListener(Plugin plugin, CachingAudienceRepresenter<CommandSender> representer) {
+            this.plugin = plugin;
+            this.representer = representer;
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(PlayerQuitEvent event) {
+            Player player = event.getPlayer();
+            representer.invalidate(player);
+            // The player is still online during the event, so it may be cached again meanwhile
+            plugin.getServer().getScheduler().runTask(plugin, () -> representer.invalidate(player));
+        }
+    }
+
     @Override
     public Audience toAudience(CommandSender commandSender) {
         if (commandSender instanceof Audience) {
@@ -46,4 +93,16 @@ public final class BukkitAudienceRepresenter implements AudienceRepresenter<Comm
         return new ConsoleAudience(commandSender);
     }
 
+    /**
+     * {@inheritDoc} <br>
+     * <br>
+     * System messages are converted once for all players and once for all other command senders.
+     * Command senders which are already audiences, as on Paper, receive messages directly.
+     *
+     */
+    @Override
+    public Audience toBroadcastAudience(Collection<? extends CommandSender> commandSenders) {
+        return new BroadcastAudience(this, commandSenders);
+    }
+
 }
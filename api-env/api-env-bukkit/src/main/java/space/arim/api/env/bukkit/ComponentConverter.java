@@ -0,0 +1,200 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env.bukkit;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.chat.BaseComponent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts Adventure components directly to BungeeChat components, without an intermediate
+ * json representation. Produces the same result as serializing with a {@code GsonComponentSerializer}
+ * which downsamples colors and emits legacy hover events, then parsing using BungeeChat. <br>
+ * <br>
+ * Components which cannot be converted directly, such as keybind components, hover events
+ * other than show_text, or fonts where BungeeChat does not support them, are reported by returning {@code null}, in which case the caller should
+ * use the json round-trip instead.
+ *
+ */
+final class ComponentConverter {
+
+    private static final Map<NamedTextColor, ChatColor> COLORS = new HashMap<>();
+    private static final Map<ClickEvent.Action, net.md_5.bungee.api.chat.ClickEvent.Action> CLICK_ACTIONS =
+            new EnumMap<>(ClickEvent.Action.class);
+    private static final MethodHandle SET_FONT;
+
+    static {
+        for (NamedTextColor color : NamedTextColor.NAMES.values()) {
+            COLORS.put(color, ChatColor.valueOf(NamedTextColor.NAMES.key(color).toUpperCase(Locale.ROOT)));
+        }
+        for (ClickEvent.Action action : ClickEvent.Action.values()) {
+            net.md_5.bungee.api.chat.ClickEvent.Action bungeeAction;
+            try {
+                bungeeAction = net.md_5.bungee.api.chat.ClickEvent.Action.valueOf(action.name());
+            } catch (IllegalArgumentException ex) {
+                // Not supported by this version of BungeeChat
+                continue;
+            }
+            CLICK_ACTIONS.put(action, bungeeAction);
+        }
+
+        MethodHandle setFont;
+        try {
+            setFont = MethodHandles.publicLookup().findVirtual(
+                    BaseComponent.class, "setFont", MethodType.methodType(void.class, String.class));
+        } catch (NoSuchMethodException ex) {
+            // Fonts are not supported by this version of BungeeChat
+            setFont = null;
+        } catch (IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+        SET_FONT = setFont;
+    }
+
+    private ComponentConverter() {}
+
+    /**
+     * Converts a component
+     *
+     * @param component the component
+     * @return the converted component, or {@code null} if not directly convertible
+     */
+    static BaseComponent convert(Component component) {
+        BaseComponent converted;
+        if (component instanceof TextComponent textComponent) {
+            converted = new net.md_5.bungee.api.chat.TextComponent(textComponent.content());
+
+        } else if (component instanceof TranslatableComponent translatableComponent) {
+            var bungeeTranslatable = new net.md_5.bungee.api.chat.TranslatableComponent(translatableComponent.key());
+            List<Component> args = translatableComponent.args();
+            if (!args.isEmpty()) {
+                List<BaseComponent> convertedArgs = convertAll(args);
+                if (convertedArgs == null) {
+                    return null;
+                }
+                bungeeTranslatable.setWith(convertedArgs);
+            }
+            converted = bungeeTranslatable;
+
+        } else {
+            return null;
+        }
+        if (!applyStyle(component, converted)) {
+            return null;
+        }
+        List<Component> children = component.children();
+        if (!children.isEmpty()) {
+            List<BaseComponent> convertedChildren = convertAll(children);
+            if (convertedChildren == null) {
+                return null;
+            }
+            converted.setExtra(convertedChildren);
+        }
+        return converted;
+    }
+
+    private static List<BaseComponent> convertAll(List<Component> components) {
+        List<BaseComponent> convertedComponents = new ArrayList<>(components.size());
+        for (Component component : components) {
+            BaseComponent converted = convert(component);
+            if (converted == null) {
+                return null;
+            }
+            convertedComponents.add(converted);
+        }
+        return convertedComponents;
+    }
+
+    private static boolean applyStyle(Component component, BaseComponent converted) {
+        TextColor color = component.color();
+        if (color != null) {
+            converted.setColor(COLORS.get(NamedTextColor.nearestTo(color)));
+        }
+        Key font = component.style().font();
+        if (font != null) {
+            if (SET_FONT == null) {
+                return false;
+            }
+            try {
+                SET_FONT.invokeExact(converted, font.asString());
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+        converted.setObfuscated(convertDecoration(component.decoration(TextDecoration.OBFUSCATED)));
+        converted.setBold(convertDecoration(component.decoration(TextDecoration.BOLD)));
+        converted.setStrikethrough(convertDecoration(component.decoration(TextDecoration.STRIKETHROUGH)));
+        converted.setUnderlined(convertDecoration(component.decoration(TextDecoration.UNDERLINED)));
+        converted.setItalic(convertDecoration(component.decoration(TextDecoration.ITALIC)));
+
+        ClickEvent clickEvent = component.clickEvent();
+        if (clickEvent != null) {
+            var bungeeAction = CLICK_ACTIONS.get(clickEvent.action());
+            if (bungeeAction == null) {
+                return false;
+            }
+            converted.setClickEvent(new net.md_5.bungee.api.chat.ClickEvent(bungeeAction, clickEvent.value()));
+        }
+        HoverEvent<?> hoverEvent = component.hoverEvent();
+        if (hoverEvent != null) {
+            if (hoverEvent.action() != HoverEvent.Action.SHOW_TEXT) {
+                return false;
+            }
+            BaseComponent hoverText = convert((Component) hoverEvent.value());
+            if (hoverText == null) {
+                return false;
+            }
+            converted.setHoverEvent(new net.md_5.bungee.api.chat.HoverEvent(
+                    net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new BaseComponent[] {hoverText}));
+        }
+        String insertion = component.insertion();
+        if (insertion != null) {
+            converted.setInsertion(insertion);
+        }
+        return true;
+    }
+
+    private static Boolean convertDecoration(TextDecoration.State state) {
+        return switch (state) {
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NOT_SET -> null;
+        };
+    }
+}
@@ -84,6 +84,16 @@ final class PlayerAudience implements MessageOnlyAudience {
     }
 
     static BaseComponent[] convertComponent(Component message) {
+        Objects.requireNonNull(message, "message");
+        // Adventure -> BungeeChat
+        BaseComponent converted = ComponentConverter.convert(message);
+        if (converted != null) {
+            return new BaseComponent[] {converted};
+        }
+        return convertComponentUsingJson(message);
+    }
+
+    static BaseComponent[] convertComponentUsingJson(Component message) {
         // Careful with GsonComponentSerializer, which will silently accept nulls!
         Objects.requireNonNull(message, "message");
         // Adventure -> json -> BungeeChat
@@ -23,6 +23,9 @@ import net.kyori.adventure.title.Title;
 import net.md_5.bungee.api.chat.BaseComponent;
 import org.bukkit.entity.Player;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -63,9 +66,9 @@ interface TitleSupport {
      */
     class PaperTitleSupport implements TitleSupport {
 
-        private static final MethodHandle TITLE_CONSTRUCTOR;
+        private static final TitleFactory TITLE_FACTORY;
+        private static final TitleSender TITLE_SENDER;
 
-        private static final MethodHandle SEND_TITLE;
         private static final MethodHandle HIDE_TITLE;
 
         static {
@@ -73,29 +76,22 @@ interface TitleSupport {
                 Class<?> titleClass = Class.forName("com.destroystokyo.paper.Title");
                 var lookup = MethodHandles.lookup();
                 // Title(BaseComponent[] title, BaseComponent[] subtitle, int fadeIn, int stay, int fadeOut)
-                TITLE_CONSTRUCTOR = lookup.findConstructor(titleClass, MethodType.methodType(
+                MethodHandle titleConstructor = lookup.findConstructor(titleClass, MethodType.methodType(
                         void.class, BaseComponent[].class, BaseComponent[].class,
                         int.class, int.class, int.class));
                 // Player#sendTitle(Title)
-                SEND_TITLE = lookup.findVirtual(Player.class, "sendTitle", MethodType.methodType(void.class, titleClass));
+                MethodHandle sendTitle = lookup.findVirtual(
+                        Player.class, "sendTitle", MethodType.methodType(void.class, titleClass));
                 // Player#hideTitle()
                 HIDE_TITLE = lookup.findVirtual(Player.class, "hideTitle", MethodType.methodType(void.class));
+
+                TITLE_FACTORY = TitleFactory.create(lookup, titleConstructor);
+                TITLE_SENDER = TitleSender.create(lookup, sendTitle);
             } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException ex) {
                 throw new ExceptionInInitializerError(ex);
             }
         }
 
-        private static Object createPaperTitle(BaseComponent[] title, BaseComponent[] subtitle,
-                                               int fadeIn, int stay, int fadeOut) {
-            try {
-                return TITLE_CONSTRUCTOR.invoke(title, subtitle, fadeIn, stay, fadeOut);
-            } catch (RuntimeException | Error ex) {
-                throw ex;
-            } catch (Throwable ex) {
-                throw new RuntimeException(ex);
-            }
-        }
-
         @Override
         public void showTitle(Player player, Title title) {
             BaseComponent[] bungeeTitle = convertComponent(title.title());
@@ -103,20 +99,14 @@ interface TitleSupport {
             Object paperTitle;
             Title.Times titleTimes = title.times();
             if (titleTimes == null) {
-                paperTitle = createPaperTitle(bungeeTitle, bungeeSubtitle, 0, 0, 0);
+                paperTitle = TITLE_FACTORY.create(bungeeTitle, bungeeSubtitle, 0, 0, 0);
             } else {
                 int fadeIn = durationToTicks(titleTimes.fadeIn());
                 int stay = durationToTicks(titleTimes.stay());
                 int fadeOut = durationToTicks(titleTimes.fadeOut());
-                paperTitle = createPaperTitle(bungeeTitle, bungeeSubtitle, fadeIn, stay, fadeOut);
-            }
-            try {
-                SEND_TITLE.invoke(player, paperTitle);
-            } catch (RuntimeException | Error ex) {
-                throw ex;
-            } catch (Throwable ex) {
-                throw new RuntimeException(ex);
+                paperTitle = TITLE_FACTORY.create(bungeeTitle, bungeeSubtitle, fadeIn, stay, fadeOut);
             }
+            TITLE_SENDER.send(player, paperTitle);
         }
 
         private static int durationToTicks(Duration duration) {
@@ -141,4 +131,89 @@ interface TitleSupport {
             player.resetTitle();
         }
     }
+
+    /**
+     * Creates a com.destroystokyo.paper.Title
+     */
+    interface TitleFactory {
+
+        Object create(BaseComponent[] title, BaseComponent[] subtitle, int fadeIn, int stay, int fadeOut);
+
+        /**
+         * Creates a title factory implemented by a generated lambda, or if that is not possible,
+         * by invoking the constructor handle adapted to an exact signature
+         *
+         * @param lookup the lookup with access to the constructor
+         * @param titleConstructor the direct method handle of the title constructor
+         * @return the title factory
+         */
+        static TitleFactory create(MethodHandles.Lookup lookup, MethodHandle titleConstructor) {
+            MethodType erasedType = MethodType.methodType(
+                    Object.class, BaseComponent[].class, BaseComponent[].class, int.class, int.class, int.class);
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        lookup, "create", MethodType.methodType(TitleFactory.class),
+                        erasedType, titleConstructor, titleConstructor.type());
+                return (TitleFactory) callSite.getTarget().invokeExact();
+            } catch (LambdaConversionException ex) {
+                // Fall through to the method handle
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+            MethodHandle exactConstructor = titleConstructor.asType(erasedType);
+            return (title, subtitle, fadeIn, stay, fadeOut) -> {
+                try {
+                    return (Object) exactConstructor.invokeExact(title, subtitle, fadeIn, stay, fadeOut);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * Calls Player#sendTitle(com.destroystokyo.paper.Title)
+     */
+    interface TitleSender {
+
+        void send(Player player, Object title);
+
+        /**
+         * Creates a title sender implemented by a generated lambda, or if that is not possible,
+         * by invoking the method handle adapted to an exact signature
+         *
+         * @param lookup the lookup with access to the method
+         * @param sendTitle the direct method handle of Player#sendTitle(Title)
+         * @return the title sender
+         */
+        static TitleSender create(MethodHandles.Lookup lookup, MethodHandle sendTitle) {
+            MethodType erasedType = MethodType.methodType(void.class, Player.class, Object.class);
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        lookup, "send", MethodType.methodType(TitleSender.class),
+                        erasedType, sendTitle, sendTitle.type());
+                return (TitleSender) callSite.getTarget().invokeExact();
+            } catch (LambdaConversionException ex) {
+                // Fall through to the method handle
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+            MethodHandle exactSendTitle = sendTitle.asType(erasedType);
+            return (player, title) -> {
+                try {
+                    exactSendTitle.invokeExact(player, title);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
 }
@@ -25,8 +25,13 @@ import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
 import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.Server;
+import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
@@ -34,10 +39,16 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.junit.jupiter.MockitoExtension;
+import space.arim.api.env.CachingAudienceRepresenter;
 import space.arim.api.jsonchat.adventure.implementor.AudienceTesting;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -128,4 +139,67 @@ public class BukkitAudienceRepresenterTest {
         Audience audience = playerAudience();
         assertThrows(UnsupportedOperationException.class, audience::resetTitle);
     }
+
+    @Test
+    public void broadcastSystemMessage() {
+        Player playerOne = mock(Player.class);
+        Player playerTwo = mock(Player.class);
+        Player.Spigot spigotOne = mock(Player.Spigot.class);
+        Player.Spigot spigotTwo = mock(Player.Spigot.class);
+        when(playerOne.spigot()).thenReturn(spigotOne);
+        when(playerTwo.spigot()).thenReturn(spigotTwo);
+        CommandSender console = mock(CommandSender.class);
+        Audience audience = representer.toBroadcastAudience(List.of(playerOne, console, playerTwo));
+        String message = "message";
+        audience.sendMessage(Component.text(message));
+        verify(spigotOne).sendMessage(fixEquals(TextComponent.fromLegacyText(message)));
+        verify(spigotTwo).sendMessage(fixEquals(TextComponent.fromLegacyText(message)));
+        verify(console).sendMessage(message);
+    }
+
+    @Test
+    public void broadcastNonDefaultIdentityAndOrType() {
+        Audience audience = representer.toBroadcastAudience(List.of(mock(Player.class), mock(CommandSender.class)));
+        Identity identity = Identity.identity(UUID.randomUUID());
+        Component message = Component.text("message");
+        assertThrows(UnsupportedOperationException.class, () -> audience.sendMessage(identity, message));
+        assertThrows(UnsupportedOperationException.class, () -> audience.sendMessage(message, MessageType.CHAT));
+    }
+
+    @Test
+    public void broadcastNullCheck() {
+        List<CommandSender> commandSenders = new ArrayList<>();
+        commandSenders.add(null);
+        assertThrows(NullPointerException.class, () -> representer.toBroadcastAudience(commandSenders));
+    }
+
+    @Test
+    public void cachingRetainsOnlyPlayersAndConsole() {
+        Plugin plugin = mock(Plugin.class);
+        Server server = mock(Server.class);
+        ConsoleCommandSender console = mock(ConsoleCommandSender.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getConsoleSender()).thenReturn(console);
+        when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+        CachingAudienceRepresenter<CommandSender> caching = BukkitAudienceRepresenter.caching(plugin);
+
+        // Command block senders are created for each command
+        caching.toAudience(mock(BlockCommandSender.class));
+        assertEquals(0, caching.size());
+
+        caching.toAudience(console);
+        assertEquals(1, caching.size());
+
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        Audience audience = caching.toAudience(player);
+        assertSame(audience, caching.toAudience(player));
+        assertEquals(2, caching.size());
+
+        Player offlinePlayer = mock(Player.class);
+        when(offlinePlayer.getUniqueId()).thenReturn(UUID.randomUUID());
+        caching.toAudience(offlinePlayer);
+        assertEquals(2, caching.size());
+    }
 }
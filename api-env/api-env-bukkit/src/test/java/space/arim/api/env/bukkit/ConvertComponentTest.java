@@ -19,10 +19,13 @@
 
 package space.arim.api.env.bukkit;
 
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.BaseComponent;
@@ -30,9 +33,11 @@ import net.md_5.bungee.api.chat.TextComponent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
 import space.arim.api.env.bukkit.test.ComponentAssert;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class ConvertComponentTest {
 
@@ -118,4 +123,42 @@ public class ConvertComponentTest {
                         Component.text(textTwo, NamedTextColor.DARK_PURPLE)),
                 expectedComponent);
     }
+
+    public static Stream<Component> equivalentToJsonConversion() {
+        Component hoverText = Component.text()
+                .append(Component.text("Hover ", TextColor.color(0x55FFAA), TextDecoration.BOLD))
+                .append(Component.text("on me", Style.style().decoration(TextDecoration.ITALIC, false).build()))
+                .build();
+        return Stream.of(
+                Component.empty(),
+                Component.text("hex colored", TextColor.color(0xF3A)),
+                Component.text("not bold", Style.style().decoration(TextDecoration.BOLD, false).build()),
+                Component.text("font", Style.style().font(Key.key("uniform")).build()),
+                Component.text("parent with font", Style.style().font(Key.key("alt")).build())
+                        .append(Component.text(" child", NamedTextColor.AQUA)),
+                Component.text("parent", NamedTextColor.GOLD, TextDecoration.UNDERLINED)
+                        .append(Component.text(" child", TextColor.color(0x1E90FF)))
+                        .append(Component.text(" child with children")
+                                .append(Component.text(" grandchild", NamedTextColor.RED, TextDecoration.OBFUSCATED))),
+                Component.text().content("events")
+                        .hoverEvent(HoverEvent.showText(hoverText))
+                        .clickEvent(ClickEvent.runCommand("/spawn"))
+                        .insertion("insert me")
+                        .build(),
+                Component.text().content("suggest").clickEvent(ClickEvent.suggestCommand("/msg ")).build(),
+                Component.text().content("url").clickEvent(ClickEvent.openUrl("https://github.com")).build(),
+                Component.text().content("page").clickEvent(ClickEvent.changePage(2)).build(),
+                Component.translatable("chat.type.text", NamedTextColor.GRAY)
+                        .args(Component.text("A248", NamedTextColor.YELLOW), Component.text("hello")),
+                net.kyori.adventure.text.TextComponent.ofChildren(
+                        Component.text().content("textOne").hoverEvent(HoverEvent.showText(hoverText)).build(),
+                        Component.text("textTwo", NamedTextColor.DARK_PURPLE)));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void equivalentToJsonConversion(Component component) {
+        ComponentAssert.assertEqualComponents(
+                PlayerAudience.convertComponentUsingJson(component), PlayerAudience.convertComponent(component));
+    }
 }
@@ -22,6 +22,7 @@ package space.arim.api.env.bukkit.test;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.HoverEvent;
 import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.api.chat.TranslatableComponent;
 
 import java.util.List;
 
@@ -55,6 +56,16 @@ public final class ComponentAssert {
         } else if (actualComponent instanceof TextComponent) {
             fail(prefix + "Expected component is not a text component");
         }
+        if (expectedComponent instanceof TranslatableComponent expectedTranslatable) {
+            if (actualComponent instanceof TranslatableComponent actualTranslatable) {
+                assertEquals(expectedTranslatable.getTranslate(), actualTranslatable.getTranslate(), prefix + "Translation key");
+                assertEqualComponents(nullToEmpty(expectedTranslatable.getWith()), nullToEmpty(actualTranslatable.getWith()));
+            } else {
+                fail(prefix + "Actual component is not a translatable component");
+            }
+        } else if (actualComponent instanceof TranslatableComponent) {
+            fail(prefix + "Expected component is not a translatable component");
+        }
         assertEquals(expectedComponent.getColorRaw(), actualComponent.getColorRaw(), prefix + "Color");
 
         assertEquals(expectedComponent.isObfuscatedRaw(), actualComponent.isObfuscatedRaw(), prefix + "Obfuscated");
@@ -66,6 +77,12 @@ public final class ComponentAssert {
         assertEquals(expectedComponent.getClickEvent(), actualComponent.getClickEvent(), prefix + "Click event");
         assertEqualHoverEvents(expectedComponent.getHoverEvent(), actualComponent.getHoverEvent());
         assertEquals(expectedComponent.getInsertion(), actualComponent.getInsertion(), prefix + "Insertion");
+
+        assertEqualComponents(nullToEmpty(expectedComponent.getExtra()), nullToEmpty(actualComponent.getExtra()));
+    }
+
+    private static List<BaseComponent> nullToEmpty(List<BaseComponent> components) {
+        return (components == null) ? List.of() : components;
     }
 
     private static void assertEqualHoverEvents(HoverEvent expectedEvent, HoverEvent actualEvent) {
@@ -0,0 +1,154 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env.bungee;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.ProxyServer;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Audience for many command senders. Messages, action bars, player list headers and footers,
+ * and titles are converted once and a copy of the resulting components is sent to every
+ * recipient. Other operations, and those which a command sender other than a player does not
+ * support, are forwarded to the audience of the command sender.
+ *
+ */
+final class BroadcastAudience implements ForwardingAudience {
+
+    private final ProxyServer server;
+    private final Function<Component, BaseComponent[]> converter;
+    private final List<Audience> audiences;
+    private final List<ProxiedPlayer> players = new ArrayList<>();
+    private final List<CommandSender> otherSenders = new ArrayList<>();
+    private final List<Audience> otherAudiences = new ArrayList<>();
+
+    BroadcastAudience(BungeeAudienceRepresenter representer, ProxyServer server,
+                      Collection<? extends CommandSender> commandSenders,
+                      Function<Component, BaseComponent[]> converter) {
+        this.server = server;
+        this.converter = converter;
+        audiences = new ArrayList<>(commandSenders.size());
+        for (CommandSender commandSender : commandSenders) {
+            Audience audience = representer.toAudience(commandSender);
+            audiences.add(audience);
+            if (commandSender instanceof ProxiedPlayer) {
+                players.add((ProxiedPlayer) commandSender);
+            } else {
+                otherSenders.add(commandSender);
+                otherAudiences.add(audience);
+            }
+        }
+    }
+
+    @Override
+    public @NonNull Iterable<? extends Audience> audiences() {
+        return audiences;
+    }
+
+    @Override
+    public void sendMessage(@NonNull Identified source, @NonNull Component message, @NonNull MessageType type) {
+        sendMessage(source.identity(), message, type);
+    }
+
+    @Override
+    public void sendMessage(@NonNull Identity source, @NonNull Component message, @NonNull MessageType type) {
+        Objects.requireNonNull(message, "message");
+        boolean systemMessage = source.equals(Identity.nil()) && type.equals(MessageType.SYSTEM);
+        if (!systemMessage) {
+            // Other command senders support only system messages; let each of their audiences decide
+            for (Audience audience : otherAudiences) {
+                audience.sendMessage(source, message, type);
+            }
+        }
+        BaseComponent[] converted = converter.apply(message);
+        for (ProxiedPlayer player : players) {
+            PlayerAudience.sendMessage(player, source, duplicate(converted), type);
+        }
+        if (systemMessage) {
+            for (CommandSender sender : otherSenders) {
+                sender.sendMessage(duplicate(converted));
+            }
+        }
+    }
+
+    @Override
+    public void sendActionBar(@NonNull Component message) {
+        BaseComponent[] converted = converter.apply(message);
+        for (ProxiedPlayer player : players) {
+            player.sendMessage(ChatMessageType.ACTION_BAR, duplicate(converted));
+        }
+        for (Audience audience : otherAudiences) {
+            audience.sendActionBar(message);
+        }
+    }
+
+    @Override
+    public void sendPlayerListHeaderAndFooter(@NonNull Component header, @NonNull Component footer) {
+        BaseComponent[] convertedHeader = converter.apply(header);
+        BaseComponent[] convertedFooter = converter.apply(footer);
+        for (ProxiedPlayer player : players) {
+            player.setTabHeader(duplicate(convertedHeader), duplicate(convertedFooter));
+        }
+        for (Audience audience : otherAudiences) {
+            audience.sendPlayerListHeaderAndFooter(header, footer);
+        }
+    }
+
+    @Override
+    public void showTitle(@NonNull Title title) {
+        BaseComponent[] convertedTitle = converter.apply(title.title());
+        BaseComponent[] convertedSubtitle = converter.apply(title.subtitle());
+        for (ProxiedPlayer player : players) {
+            player.sendTitle(PlayerAudience.createTitle(
+                    server, duplicate(convertedTitle), duplicate(convertedSubtitle), title.times()));
+        }
+        for (Audience audience : otherAudiences) {
+            audience.showTitle(title);
+        }
+    }
+
+    /*
+     * BungeeCord modifies components in place while sending them, for instance
+     * to downsample colors and rewrite hover events for older clients. Every
+     * recipient therefore receives its own copy.
+     */
+    private static BaseComponent[] duplicate(BaseComponent[] components) {
+        BaseComponent[] copy = new BaseComponent[components.length];
+        for (int n = 0; n < components.length; n++) {
+            copy[n] = components[n].duplicate();
+        }
+        return copy;
+    }
+}
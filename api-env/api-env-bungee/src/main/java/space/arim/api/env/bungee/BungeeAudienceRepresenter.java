@@ -26,9 +26,16 @@ import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.plugin.Listener;
+import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.chat.ComponentSerializer;
+import net.md_5.bungee.event.EventHandler;
+import net.md_5.bungee.event.EventPriority;
 import space.arim.api.env.AudienceRepresenter;
+import space.arim.api.env.CachingAudienceRepresenter;
 
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -49,6 +56,54 @@ public final class BungeeAudienceRepresenter implements AudienceRepresenter<Comm
         this.server = Objects.requireNonNull(server, "server");
     }
 
+    /**
+     * Creates an audience representer which caches the audiences of connected players and
+     * of the console. Players are cached by UUID, and their audiences are removed from the
+     * cache when they disconnect, using a listener registered for the given plugin. The
+     * audiences of other command senders, which may be created for each command, are not cached.
+     *
+     * @param plugin the plugin with which to register the listener
+     * @return the caching audience representer
+     */
+    public static CachingAudienceRepresenter<CommandSender> caching(Plugin plugin) {
+        CachingAudienceRepresenter<CommandSender> representer = createCaching(plugin.getProxy());
+        plugin.getProxy().getPluginManager().registerListener(plugin, new CacheInvalidationListener(representer));
+        return representer;
+    }
+
+    static CachingAudienceRepresenter<CommandSender> createCaching(ProxyServer server) {
+        CommandSender console = server.getConsole();
+        return new CachingAudienceRepresenter<>(
+                new BungeeAudienceRepresenter(server),
+                (commandSender) -> (commandSender instanceof ProxiedPlayer player) ? player.getUniqueId() : commandSender,
+                // Do not cache a player who has already left
+                (commandSender) -> (commandSender instanceof ProxiedPlayer player) ? player.isConnected() : commandSender == console);
+    }
+
+    /**
+     * Removes players' audiences from a cache when they disconnect. Public because
+     * the BungeeCord event bus requires accessible listener classes.
+     *
+     */
+    public static final class CacheInvalidationListener implements Listener {
+
+        private final CachingAudienceRepresenter<CommandSender> representer;
+
+        CacheInvalidationListener(CachingAudienceRepresenter<CommandSender> representer) {
+            this.representer = representer;
+        }
+
+        /**
+         * Invalidates the player's audience
+         *
+         * @param event the event
+         */
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void onDisconnect(PlayerDisconnectEvent event) {
+            representer.invalidate(event.getPlayer());
+        }
+    }
+
     @Override
     public Audience toAudience(CommandSender commandSender) {
         if (commandSender instanceof ProxiedPlayer) {
@@ -58,7 +113,30 @@ public final class BungeeAudienceRepresenter implements AudienceRepresenter<Comm
         return new ConsoleAudience(commandSender);
     }
 
+    /**
+     * {@inheritDoc} <br>
+     * <br>
+     * Messages, action bars, player list headers and footers, and titles are converted
+     * once for all recipients. Each recipient is sent its own copy of the converted components,
+     * since BungeeCord may modify them while sending.
+     *
+     */
+    @Override
+    public Audience toBroadcastAudience(Collection<? extends CommandSender> commandSenders) {
+        return new BroadcastAudience(this, server, commandSenders, BungeeAudienceRepresenter::convertComponent);
+    }
+
     static BaseComponent[] convertComponent(Component component) {
+        Objects.requireNonNull(component, "component");
+        // Adventure -> BungeeChat
+        BaseComponent converted = ComponentConverter.convert(component);
+        if (converted != null) {
+            return new BaseComponent[] {converted};
+        }
+        return convertComponentUsingJson(component);
+    }
+
+    static BaseComponent[] convertComponentUsingJson(Component component) {
         // Careful with GsonComponentSerializer, which will silently accept nulls!
         Objects.requireNonNull(component, "component");
         // Adventure -> json -> BungeeChat
@@ -53,7 +53,10 @@ final class PlayerAudience implements MessageOnlyAudience {
     @Override
     public void sendMessage(@NonNull Identity source, @NonNull Component message, @NonNull MessageType type) {
         Objects.requireNonNull(message, "message");
-        BaseComponent[] converted = convertComponent(message);
+        sendMessage(player, source, convertComponent(message), type);
+    }
+
+    static void sendMessage(ProxiedPlayer player, Identity source, BaseComponent[] converted, MessageType type) {
         if (!source.equals(Identity.nil())) {
             if (!type.equals(MessageType.CHAT)) {
                 throw new UnsupportedOperationException(
@@ -90,19 +93,22 @@ final class PlayerAudience implements MessageOnlyAudience {
 
     @Override
     public void showTitle(@NonNull Title title) {
+        player.sendTitle(createTitle(
+                server, convertComponent(title.title()), convertComponent(title.subtitle()), title.times()));
+    }
+
+    static net.md_5.bungee.api.Title createTitle(ProxyServer server, BaseComponent[] title, BaseComponent[] subtitle,
+                                                  Title.Times titleTimes) {
         net.md_5.bungee.api.Title bungeeTitle = server.createTitle()
-                .title(convertComponent(title.title()))
-                .subTitle(convertComponent(title.subtitle()));
-        Title.Times titleTimes = title.times();
+                .title(title)
+                .subTitle(subtitle);
         if (titleTimes == null) {
-            bungeeTitle = bungeeTitle.fadeIn(0).stay(0).fadeOut(0);
-        } else {
-            bungeeTitle = bungeeTitle
-                    .fadeIn(durationToTicks(titleTimes.fadeIn()))
-                    .stay(durationToTicks(titleTimes.stay()))
-                    .fadeOut(durationToTicks(titleTimes.fadeOut()));
+            return bungeeTitle.fadeIn(0).stay(0).fadeOut(0);
         }
-        player.sendTitle(bungeeTitle);
+        return bungeeTitle
+                .fadeIn(durationToTicks(titleTimes.fadeIn()))
+                .stay(durationToTicks(titleTimes.stay()))
+                .fadeOut(durationToTicks(titleTimes.fadeOut()));
     }
 
     private static int durationToTicks(Duration duration) {
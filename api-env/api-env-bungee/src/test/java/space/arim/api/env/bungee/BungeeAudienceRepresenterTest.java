@@ -23,10 +23,15 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.title.Title;
+import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
+import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.api.connection.PendingConnection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
@@ -36,26 +41,40 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import space.arim.api.env.CachingAudienceRepresenter;
 import space.arim.api.jsonchat.adventure.implementor.AudienceTesting;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 import static space.arim.api.env.bungee.BungeeAudienceRepresenter.convertComponent;
 
 @ExtendWith(MockitoExtension.class)
 public class BungeeAudienceRepresenterTest {
 
+    private final ProxyServer server;
     private final BungeeAudienceRepresenter representer;
+    private final AtomicInteger conversions = new AtomicInteger();
 
     public BungeeAudienceRepresenterTest(@Mock ProxyServer server) {
+        this.server = server;
         representer = new BungeeAudienceRepresenter(server);
     }
 
@@ -164,4 +183,190 @@ public class BungeeAudienceRepresenterTest {
         verify(player).setTabHeader(convertComponent(header), convertComponent(footer));
     }
 
+    @Test
+    public void broadcastSystemMessage() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        CommandSender console = mock(CommandSender.class);
+        Audience audience = representer.toBroadcastAudience(List.of(playerOne, console, playerTwo));
+        audience.sendMessage(Component.text(MESSAGE));
+        verify(playerOne).sendMessage(ChatMessageType.SYSTEM, TextComponent.fromLegacyText(MESSAGE));
+        verify(playerTwo).sendMessage(ChatMessageType.SYSTEM, TextComponent.fromLegacyText(MESSAGE));
+        verify(console).sendMessage(TextComponent.fromLegacyText(MESSAGE));
+        verifyNoMoreInteractions(playerOne, playerTwo, console);
+    }
+
+    @Test
+    public void broadcastChatMessageWithIdentity() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = representer.toBroadcastAudience(List.of(playerOne, playerTwo));
+        UUID sender = UUID.randomUUID();
+        audience.sendMessage(Identity.identity(sender), Component.text(MESSAGE), MessageType.CHAT);
+        verify(playerOne).sendMessage(sender, TextComponent.fromLegacyText(MESSAGE));
+        verify(playerTwo).sendMessage(sender, TextComponent.fromLegacyText(MESSAGE));
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastRecipientsOnDifferentVersionsReceiveSeparateCopies() {
+        ProxiedPlayer legacyPlayer = mock(ProxiedPlayer.class);
+        ProxiedPlayer modernPlayer = mock(ProxiedPlayer.class);
+        // 1.15.2 and 1.16.5 clients
+        lenient().when(legacyPlayer.getPendingConnection()).thenReturn(connectionWithVersion(578));
+        lenient().when(modernPlayer.getPendingConnection()).thenReturn(connectionWithVersion(754));
+        // Imitate BungeeCord downsampling hex colors in place for the older client
+        doAnswer((invocation) -> {
+            BaseComponent component = invocation.getArgument(1);
+            component.setColor(ChatColor.BLUE);
+            return null;
+        }).when(legacyPlayer).sendMessage(eq(ChatMessageType.SYSTEM), any(BaseComponent.class));
+
+        Audience audience = representer.toBroadcastAudience(List.of(legacyPlayer, modernPlayer));
+        audience.sendMessage(Component.text(MESSAGE, TextColor.color(0x1E90FF)));
+
+        TextComponent expected = new TextComponent(MESSAGE);
+        expected.setColor(ChatColor.of("#1e90ff"));
+        verify(modernPlayer).sendMessage(ChatMessageType.SYSTEM, expected);
+    }
+
+    private Audience countingBroadcastAudience(Collection<? extends CommandSender> commandSenders) {
+        return new BroadcastAudience(representer, server, commandSenders, (component) -> {
+            conversions.incrementAndGet();
+            return convertComponent(component);
+        });
+    }
+
+    @Test
+    public void broadcastSystemMessageConvertedOnce() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        CommandSender console = mock(CommandSender.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, console, playerTwo));
+        audience.sendMessage(Component.text(MESSAGE));
+        assertEquals(1, conversions.get());
+        verify(playerOne).sendMessage(ChatMessageType.SYSTEM, TextComponent.fromLegacyText(MESSAGE));
+        verify(playerTwo).sendMessage(ChatMessageType.SYSTEM, TextComponent.fromLegacyText(MESSAGE));
+        verify(console).sendMessage(TextComponent.fromLegacyText(MESSAGE));
+    }
+
+    @Test
+    public void broadcastChatMessageConvertedOnce() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, playerTwo));
+        audience.sendMessage(Identity.nil(), Component.text(MESSAGE), MessageType.CHAT);
+        assertEquals(1, conversions.get());
+        verify(playerOne).sendMessage(ChatMessageType.CHAT, TextComponent.fromLegacyText(MESSAGE));
+        verify(playerTwo).sendMessage(ChatMessageType.CHAT, TextComponent.fromLegacyText(MESSAGE));
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastChatMessageWithIdentityConvertedOnce() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, playerTwo));
+        UUID sender = UUID.randomUUID();
+        audience.sendMessage(Identity.identity(sender), Component.text(MESSAGE), MessageType.CHAT);
+        assertEquals(1, conversions.get());
+        verify(playerOne).sendMessage(sender, TextComponent.fromLegacyText(MESSAGE));
+        verify(playerTwo).sendMessage(sender, TextComponent.fromLegacyText(MESSAGE));
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastChatMessageToConsoleUnsupported() {
+        ProxiedPlayer player = mock(ProxiedPlayer.class);
+        CommandSender console = mock(CommandSender.class);
+        Audience audience = countingBroadcastAudience(List.of(player, console));
+        Component message = Component.text(MESSAGE);
+        assertThrows(UnsupportedOperationException.class,
+                () -> audience.sendMessage(Identity.nil(), message, MessageType.CHAT));
+        verifyNoMoreInteractions(player, console);
+    }
+
+    @Test
+    public void broadcastActionBarConvertedOnce() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, playerTwo));
+        Component actionBar = Component.text("action bar");
+        audience.sendActionBar(actionBar);
+        assertEquals(1, conversions.get());
+        verify(playerOne).sendMessage(ChatMessageType.ACTION_BAR, convertComponent(actionBar));
+        verify(playerTwo).sendMessage(ChatMessageType.ACTION_BAR, convertComponent(actionBar));
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastPlayerListHeaderAndFooterConvertedOnce() {
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, playerTwo));
+        Component header = Component.text("header");
+        Component footer = Component.text("footer");
+        audience.sendPlayerListHeaderAndFooter(header, footer);
+        // Once for the header and once for the footer
+        assertEquals(2, conversions.get());
+        verify(playerOne).setTabHeader(convertComponent(header), convertComponent(footer));
+        verify(playerTwo).setTabHeader(convertComponent(header), convertComponent(footer));
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastTitleConvertedOnce() {
+        when(server.createTitle()).thenAnswer((invocation) -> new TitleImpl());
+        ProxiedPlayer playerOne = mock(ProxiedPlayer.class);
+        ProxiedPlayer playerTwo = mock(ProxiedPlayer.class);
+        Audience audience = countingBroadcastAudience(List.of(playerOne, playerTwo));
+        audience.showTitle(Title.title(Component.text("title"), Component.text("subtitle"), null));
+        // Once for the title and once for the subtitle
+        assertEquals(2, conversions.get());
+        net.md_5.bungee.api.Title expected = new TitleImpl()
+                .title(TextComponent.fromLegacyText("title")).subTitle(TextComponent.fromLegacyText("subtitle"))
+                .fadeIn(0).stay(0).fadeOut(0);
+        verify(playerOne).sendTitle(expected);
+        verify(playerTwo).sendTitle(expected);
+        verifyNoMoreInteractions(playerOne, playerTwo);
+    }
+
+    @Test
+    public void broadcastTitleToConsoleUnsupported() {
+        Audience audience = countingBroadcastAudience(List.of(mock(CommandSender.class)));
+        Title title = Title.title(Component.text("title"), Component.text("subtitle"));
+        assertThrows(UnsupportedOperationException.class, () -> audience.showTitle(title));
+    }
+
+    @Test
+    public void cachingRetainsOnlyPlayersAndConsole() {
+        CommandSender console = mock(CommandSender.class);
+        when(server.getConsole()).thenReturn(console);
+        CachingAudienceRepresenter<CommandSender> caching = BungeeAudienceRepresenter.createCaching(server);
+
+        // Such as a command sender created for a single command
+        caching.toAudience(mock(CommandSender.class));
+        assertEquals(0, caching.size());
+
+        caching.toAudience(console);
+        assertEquals(1, caching.size());
+
+        ProxiedPlayer player = mock(ProxiedPlayer.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isConnected()).thenReturn(true);
+        Audience audience = caching.toAudience(player);
+        assertSame(audience, caching.toAudience(player));
+        assertEquals(2, caching.size());
+
+        ProxiedPlayer disconnectedPlayer = mock(ProxiedPlayer.class);
+        when(disconnectedPlayer.getUniqueId()).thenReturn(UUID.randomUUID());
+        caching.toAudience(disconnectedPlayer);
+        assertEquals(2, caching.size());
+    }
+
+    private static PendingConnection connectionWithVersion(int version) {
+        PendingConnection connection = mock(PendingConnection.class);
+        lenient().when(connection.getVersion()).thenReturn(version);
+        return connection;
+    }
 }
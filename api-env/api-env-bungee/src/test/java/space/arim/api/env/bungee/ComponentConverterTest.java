@@ -0,0 +1,74 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env.bungee;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static space.arim.api.env.bungee.BungeeAudienceRepresenter.convertComponent;
+import static space.arim.api.env.bungee.BungeeAudienceRepresenter.convertComponentUsingJson;
+
+public class ComponentConverterTest {
+
+    public static Stream<Component> equivalentToJsonConversion() {
+        Component hoverText = Component.text()
+                .append(Component.text("Hover ", TextColor.color(0x55FFAA), TextDecoration.BOLD))
+                .append(Component.text("on me", Style.style().decoration(TextDecoration.ITALIC, false).build()))
+                .build();
+        return Stream.of(
+                Component.empty(),
+                Component.text("named color", NamedTextColor.DARK_PURPLE),
+                Component.text("hex color", TextColor.color(0xF3A)),
+                Component.text("hex equal to named color", TextColor.color(NamedTextColor.RED.value())),
+                Component.text("font", Style.style().font(Key.key("uniform")).build()),
+                Component.text("not bold", Style.style().decoration(TextDecoration.BOLD, false).build()),
+                Component.text("parent", NamedTextColor.GOLD, TextDecoration.UNDERLINED)
+                        .append(Component.text(" child", TextColor.color(0x1E90FF)))
+                        .append(Component.text(" child with children")
+                                .append(Component.text(" grandchild", NamedTextColor.RED, TextDecoration.OBFUSCATED))),
+                Component.text().content("events")
+                        .hoverEvent(HoverEvent.showText(hoverText))
+                        .clickEvent(ClickEvent.runCommand("/server lobby"))
+                        .insertion("insert me")
+                        .build(),
+                Component.text().content("copy").clickEvent(ClickEvent.copyToClipboard("copied")).build(),
+                Component.text().content("url").clickEvent(ClickEvent.openUrl("https://github.com")).build(),
+                Component.translatable("chat.type.text", NamedTextColor.GRAY)
+                        .args(Component.text("A248", NamedTextColor.YELLOW), Component.text("hello")),
+                Component.keybind("key.jump", NamedTextColor.AQUA),
+                Component.text("prefix ").append(Component.selector("@p")));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void equivalentToJsonConversion(Component component) {
+        assertArrayEquals(convertComponentUsingJson(component), convertComponent(component));
+    }
+}
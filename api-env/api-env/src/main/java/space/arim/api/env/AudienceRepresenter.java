@@ -22,6 +22,10 @@ package space.arim.api.env;
 import net.kyori.adventure.audience.Audience;
 import space.arim.api.env.annote.PlatformCommandSender;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Allows representing a platform specific command sender as a {@code Audience}
  *
@@ -37,6 +41,26 @@ public interface AudienceRepresenter<@PlatformCommandSender C> {
      */
     Audience toAudience(C commandSender);
 
+    /**
+     * Provides an adventure for many command senders, such as for broadcasting to all
+     * players. The command senders are copied, so later changes to the collection
+     * do not affect the audience. <br>
+     * <br>
+     * By default, forwards to the audience of each command sender. Implementations may
+     * override this to convert a message into the platform's native form only once,
+     * rather than once per recipient.
+     *
+     * @param commandSenders the command senders
+     * @return the adventure
+     */
+    default Audience toBroadcastAudience(Collection<? extends C> commandSenders) {
+        List<Audience> audiences = new ArrayList<>(commandSenders.size());
+        for (C commandSender : commandSenders) {
+            audiences.add(toAudience(commandSender));
+        }
+        return Audience.audience(audiences);
+    }
+
     /**
      * Obtains an audience representer for a command sender type
      * which is known to already be an {@code Audience}.
@@ -0,0 +1,179 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env;
+
+import net.kyori.adventure.audience.Audience;
+import space.arim.api.env.annote.PlatformCommandSender;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@code AudienceRepresenter} which keeps one audience per command sender, so that
+ * repeated calls for the same command sender do not create a new audience each time. Thread safe. <br>
+ * <br>
+ * Audiences are cached by a key derived from the command sender, such as a player's UUID.
+ * A cached audience is only returned for the same command sender instance for which it was
+ * created, so a player who rejoins, and is represented by a new object with the same key,
+ * receives a new audience which replaces the old one. <br>
+ * <br>
+ * Audiences are retained until {@link #invalidate(Object)} is called, which should be done
+ * when a player leaves. Platform implementations provide factory methods which do so
+ * automatically. Concurrent misses for the same command sender may each create an audience,
+ * which is harmless, and are each counted as misses.
+ *
+ * @param <C> the command sender type
+ */
+public final class CachingAudienceRepresenter<@PlatformCommandSender C> implements AudienceRepresenter<C> {
+
+    private final AudienceRepresenter<C> delegate;
+    private final Function<? super C, ?> keyFunction;
+    private final Predicate<? super C> cacheable;
+    private final Map<Object, Entry<C>> audiences = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates from an audience representer to create the audiences. Command senders
+     * are themselves used as keys, and every audience may be cached. <br>
+     * <br>
+     * Cached command senders and their audiences are strongly referenced and never evicted.
+     * Callers must {@link #invalidate(Object)} each command sender once it is no longer
+     * used, or else only pass long-lived command senders, to avoid retaining them forever.
+     *
+     * @param delegate the audience representer which creates audiences
+     */
+    public CachingAudienceRepresenter(AudienceRepresenter<C> delegate) {
+        this(delegate, Function.identity(), (commandSender) -> true);
+    }
+
+    /**
+     * Creates from an audience representer to create the audiences, a function deriving
+     * the cache key of a command sender, and a predicate determining which command senders'
+     * audiences may be cached. <br>
+     * <br>
+     * The predicate should return false for a player who has left, and for short-lived command
+     * senders which are never invalidated, such as those created for a single command. It is
+     * checked again after an audience is cached, and the entry removed if the predicate no longer
+     * holds, so that a player leaving concurrently with {@link #toAudience(Object)} is not left
+     * in the cache.
+     *
+     * @param delegate the audience representer which creates audiences
+     * @param keyFunction derives the cache key of a command sender, for example a player's UUID
+     * @param cacheable whether a command sender's audience may be cached
+     */
+    public CachingAudienceRepresenter(AudienceRepresenter<C> delegate, Function<? super C, ?> keyFunction,
+                                      Predicate<? super C> cacheable) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction");
+        this.cacheable = Objects.requireNonNull(cacheable, "cacheable");
+    }
+
+    private record Entry<C>(C commandSender, Audience audience) { }
+
+    @Override
+    public Audience toAudience(C commandSender) {
+        Objects.requireNonNull(commandSender, "commandSender");
+        Object key = keyFunction.apply(commandSender);
+        Entry<C> existing = audiences.get(key);
+        if (existing != null && existing.commandSender() == commandSender) {
+            hits.increment();
+            return existing.audience();
+        }
+        misses.increment();
+        Audience audience = delegate.toAudience(commandSender);
+        if (cacheable.test(commandSender)) {
+            Entry<C> entry = new Entry<>(commandSender, audience);
+            boolean inserted = (existing == null)
+                    ? audiences.putIfAbsent(key, entry) == null
+                    : audiences.replace(key, existing, entry);
+            // The command sender may have left and been invalidated before insertion
+            if (inserted && !cacheable.test(commandSender)) {
+                audiences.remove(key, entry);
+            }
+        }
+        return audience;
+    }
+
+    /**
+     * Delegates to the underlying representer, which may convert messages once for all
+     * recipients. Cached audiences are not used.
+     *
+     * @param commandSenders the command senders
+     * @return the adventure
+     */
+    @Override
+    public Audience toBroadcastAudience(Collection<? extends C> commandSenders) {
+        return delegate.toBroadcastAudience(commandSenders);
+    }
+
+    /**
+     * Removes the cached audience of a command sender, if there is one
+     *
+     * @param commandSender the command sender
+     */
+    public void invalidate(C commandSender) {
+        Objects.requireNonNull(commandSender, "commandSender");
+        // Leave the audience of a newer command sender with the same key
+        audiences.computeIfPresent(
+                keyFunction.apply(commandSender),
+                (key, entry) -> (entry.commandSender() == commandSender) ? null : entry);
+    }
+
+    /**
+     * Removes all cached audiences
+     *
+     */
+    public void invalidateAll() {
+        audiences.clear();
+    }
+
+    /**
+     * Gets the amount of cached audiences
+     *
+     * @return the amount of cached audiences
+     */
+    public int size() {
+        return audiences.size();
+    }
+
+    /**
+     * Gets the amount of times a cached audience was returned
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of times an audience was not cached and had to be created
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * ArimAPI
+ * Copyright © 2026 Anand Beh
+ *
+ * ArimAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ArimAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ArimAPI. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU General Public License.
+ */
+package space.arim.api.env;
+
+import net.kyori.adventure.audience.Audience;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CachingAudienceRepresenterTest {
+
+    private final AtomicInteger creations = new AtomicInteger();
+    private final AudienceRepresenter<String> delegate = (commandSender) -> {
+        creations.incrementAndGet();
+        return new Audience() {};
+    };
+
+    @Test
+    public void cachesPerCommandSender() {
+        var representer = new CachingAudienceRepresenter<>(delegate);
+        Audience first = representer.toAudience("first");
+        assertSame(first, representer.toAudience("first"));
+        Audience second = representer.toAudience("second");
+        assertNotSame(first, second);
+        assertSame(second, representer.toAudience("second"));
+        assertEquals(2, creations.get());
+        assertEquals(2, representer.size());
+        assertEquals(2, representer.hitCount());
+        assertEquals(2, representer.missCount());
+    }
+
+    @Test
+    public void invalidate() {
+        var representer = new CachingAudienceRepresenter<>(delegate);
+        Audience audience = representer.toAudience("sender");
+        representer.invalidate("sender");
+        assertEquals(0, representer.size());
+        assertNotSame(audience, representer.toAudience("sender"));
+        representer.invalidateAll();
+        assertEquals(0, representer.size());
+        assertEquals(2, representer.missCount());
+    }
+
+    @Test
+    public void uncacheableCommandSender() {
+        var representer = new CachingAudienceRepresenter<>(
+                delegate, Function.identity(), (commandSender) -> !commandSender.equals("offline"));
+        Audience audience = representer.toAudience("offline");
+        assertNotSame(audience, representer.toAudience("offline"));
+        assertEquals(0, representer.size());
+        assertEquals(0, representer.hitCount());
+    }
+
+    @Test
+    public void leavingDuringCreation() {
+        // Simulates a command sender leaving, and being invalidated, before its audience is inserted
+        AtomicInteger checks = new AtomicInteger();
+        var representer = new CachingAudienceRepresenter<>(
+                delegate, Function.identity(), (commandSender) -> checks.getAndIncrement() == 0);
+        representer.toAudience("sender");
+        assertEquals(0, representer.size());
+    }
+
+    @Test
+    public void rejoinWithSameKey() {
+        var representer = new CachingAudienceRepresenter<>(
+                delegate, (commandSender) -> commandSender.toLowerCase(Locale.ROOT), (commandSender) -> true);
+        String oldPlayer = new String("Player");
+        String newPlayer = new String("Player");
+        Audience oldAudience = representer.toAudience(oldPlayer);
+        Audience newAudience = representer.toAudience(newPlayer);
+        assertNotSame(oldAudience, newAudience);
+        assertEquals(1, representer.size());
+        assertSame(newAudience, representer.toAudience(newPlayer));
+
+        // Invalidating the old command sender leaves the new one cached
+        representer.invalidate(oldPlayer);
+        assertSame(newAudience, representer.toAudience(newPlayer));
+        representer.invalidate(newPlayer);
+        assertEquals(0, representer.size());
+    }
+
+    @Test
+    public void broadcastAudienceDelegates() {
+        var representer = new CachingAudienceRepresenter<>(new AudienceRepresenter<String>() {
+            @Override
+            public Audience toAudience(String commandSender) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public Audience toBroadcastAudience(Collection<? extends String> commandSenders) {
+                return Audience.empty();
+            }
+        });
+        assertSame(Audience.empty(), representer.toBroadcastAudience(List.of("one", "two")));
+    }
+
+    @Test
+    public void nullCheck() {
+        var representer = new CachingAudienceRepresenter<>(delegate);
+        assertThrows(NullPointerException.class, () -> representer.toAudience(null));
+    }
+}